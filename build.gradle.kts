@@ -2,6 +2,7 @@ plugins {
     java
     application
     id("org.openjfx.javafxplugin") version "0.1.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 repositories {
@@ -27,6 +28,19 @@ javafx {
     modules = listOf("javafx.controls", "javafx.fxml", "javafx.graphics")
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+}
+
+tasks.register<JavaExec>("ingestionFootprint") {
+    description = "Prints the heap retained by a synthetic term with and without the ingestion pools."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("service.IngestionFootprintReport")
+    jvmArgs("-XX:+UseSerialGC", "-Xmx2g")
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
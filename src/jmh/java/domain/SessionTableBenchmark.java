@@ -0,0 +1,110 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the campus-wide "sessions in a building on a day from a given time" scan over the
+ * object graph with the sequential and parallel scans of SessionTable, on a synthetic term of
+ * three sessions per offering. Run with {@code gradle jmh}; the parallel variant only means
+ * something on a machine with more than one core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SessionTableBenchmark {
+    private static final int BUILDINGS = 80;
+    private static final int ROOMS_PER_BUILDING = 40;
+    private static final int SESSIONS_PER_OFFERING = 3;
+    private static final String QUERY_BUILDING = "59";
+    private static final DayOfWeek QUERY_DAY = DayOfWeek.TUESDAY;
+    private static final LocalTime QUERY_FROM = LocalTime.of(13, 0);
+
+    @Param({"10000", "100000"})
+    private int offeringCount;
+
+    private TermSchedule schedule;
+    private SessionTable table;
+    private int queryBuildingId;
+    private int queryFromMinute;
+
+    /** Generates a reproducible term and builds its session table outside the measured code. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Room[][] rooms = new Room[BUILDINGS][ROOMS_PER_BUILDING];
+        for (int b = 0; b < BUILDINGS; b++) {
+            String code = Integer.toString(b + 1);
+            Building building = new Building(code, code, new CampusCoordinate(random.nextDouble(), random.nextDouble()));
+            for (int r = 0; r < ROOMS_PER_BUILDING; r++) {
+                rooms[b][r] = new Room(Integer.toString(100 + r), 1 + r / 10, building);
+            }
+        }
+        Course course = new Course("BENCH 101", "Benchmark", "BENCH");
+        DayOfWeek[] days = {DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY};
+        List<CourseOffering> offerings = new ArrayList<>(offeringCount);
+        for (int i = 0; i < offeringCount; i++) {
+            CourseOffering offering = new CourseOffering(Integer.toString(10000 + i), "01",
+                    DeliveryMode.LECTURE, course, null);
+            for (int s = 0; s < SESSIONS_PER_OFFERING; s++) {
+                int start = 7 * 60 + random.nextInt(12) * 60;
+                TimeSlot slot = new TimeSlot(LocalTime.of(start / 60, 0), LocalTime.of(start / 60, 50));
+                Room room = rooms[random.nextInt(BUILDINGS)][random.nextInt(ROOMS_PER_BUILDING)];
+                offering.addSession(new MeetingSession(days[random.nextInt(days.length)], slot, ActivityType.LECTURE, room));
+            }
+            offerings.add(offering);
+        }
+        schedule = new TermSchedule(offerings);
+        table = schedule.getSessionTable();
+        queryBuildingId = table.buildingId(QUERY_BUILDING);
+        queryFromMinute = TimeSlot.minuteOfDay(QUERY_FROM);
+    }
+
+    /** Walks offerings and their sessions, comparing day, building code and start on each object. */
+    @Benchmark
+    public int objectWalk() {
+        int count = 0;
+        for (CourseOffering offering : schedule.allOfferings()) {
+            for (MeetingSession session : offering.getSessions()) {
+                if (session.getDay() == QUERY_DAY
+                        && session.getBuilding().getCode().equals(QUERY_BUILDING)
+                        && session.getTimeSlot().getStartMinute() >= queryFromMinute) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /** Scans the columns sequentially. */
+    @Benchmark
+    public int[] columnarScan() {
+        return table.findRows(QUERY_DAY.ordinal(), queryBuildingId, queryFromMinute);
+    }
+
+    /** Scans the columns in parallel ranges on the common pool. */
+    @Benchmark
+    public int[] columnarScanParallel() {
+        return table.findRowsParallel(QUERY_DAY.ordinal(), queryBuildingId, queryFromMinute);
+    }
+}
@@ -0,0 +1,65 @@
+package service;
+
+import domain.CourseOffering;
+import infra.BuildingRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Heap footprint report for the ingestion pools: assembles the same synthetic rows once with
+ * pooled rooms and time slots and once with a new instance per row, and prints the heap each
+ * result retains after a full collection. Run with {@code gradle ingestionFootprint}.
+ */
+public final class IngestionFootprintReport {
+    private static final int DEFAULT_ROWS = 200_000;
+
+    private IngestionFootprintReport() {
+    }
+
+    /** Takes an optional row count as the only argument. */
+    public static void main(String[] args) {
+        int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+        ScheduleRow[] rows = SyntheticRows.generate(rowCount, 42);
+        long unpooled = retainedBytes(rows, IngestionPools.disabled());
+        long pooled = retainedBytes(rows, new IngestionPools());
+        System.out.printf(Locale.ROOT, "rows: %d%n", rowCount);
+        System.out.printf(Locale.ROOT, "retained without pools: %.1f MB%n", unpooled / 1e6);
+        System.out.printf(Locale.ROOT, "retained with pools:    %.1f MB%n", pooled / 1e6);
+    }
+
+    /** Measures the used heap kept alive by the assembled offerings. */
+    private static long retainedBytes(ScheduleRow[] rows, IngestionPools pools) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        BuildingRegistry registry = new BuildingRegistry();
+        settle(memory);
+        long before = memory.getHeapMemoryUsage().getUsed();
+        OfferingAssembler assembler = new OfferingAssembler(registry, new LoadProgress(), new IngestionMetrics(), pools);
+        for (ScheduleRow row : rows) {
+            assembler.accept(row);
+        }
+        List<CourseOffering> offerings = assembler.getOfferings();
+        assembler = null;
+        settle(memory);
+        long after = memory.getHeapMemoryUsage().getUsed();
+        if (offerings.isEmpty() || registry.size() == 0) {
+            throw new IllegalStateException("Nothing was assembled");
+        }
+        return after - before;
+    }
+
+    /** Runs full collections until the used heap stops shrinking. */
+    private static void settle(MemoryMXBean memory) {
+        long previous = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            memory.gc();
+            long used = memory.getHeapMemoryUsage().getUsed();
+            if (used >= previous) {
+                return;
+            }
+            previous = used;
+        }
+    }
+}
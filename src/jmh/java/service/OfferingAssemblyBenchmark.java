@@ -0,0 +1,66 @@
+package service;
+
+import infra.BuildingRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares assembling already-read schedule rows on one thread with the chunked pipeline that
+ * ExcelScheduleRepository and MultiTermScheduleRepository feed from their readers. The rows are
+ * generated up front, so only the assembly stage is measured; the reader itself stays sequential.
+ * Run with {@code gradle jmh} on a multi-core machine, optionally varying the common pool size
+ * through {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class OfferingAssemblyBenchmark {
+    @Param({"20000", "200000"})
+    private int rowCount;
+
+    private ScheduleRow[] rows;
+
+    /** Generates reproducible rows with about three rows per CRN, as in the term exports. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = SyntheticRows.generate(rowCount, 42);
+    }
+
+    /** Feeds every row to a single OfferingAssembler on the benchmark thread. */
+    @Benchmark
+    public List<?> sequential() {
+        OfferingAssembler assembler = new OfferingAssembler(new BuildingRegistry(), new LoadProgress(), new IngestionMetrics());
+        for (ScheduleRow row : rows) {
+            assembler.accept(row);
+        }
+        return assembler.getOfferings();
+    }
+
+    /** Feeds every row through the chunked pipeline on the common pool. */
+    @Benchmark
+    public List<?> pipelined() {
+        ParallelOfferingAssembler assembler = new ParallelOfferingAssembler(
+                new BuildingRegistry(), new LoadProgress(), new IngestionMetrics());
+        for (ScheduleRow row : rows) {
+            assembler.accept(row);
+        }
+        assembler.finish();
+        return assembler.getOfferings();
+    }
+}
@@ -0,0 +1,40 @@
+package service;
+
+import java.time.LocalTime;
+import java.util.Random;
+
+/** Reproducible schedule rows shaped like the term exports, shared by the ingestion benchmarks. */
+final class SyntheticRows {
+    private static final String[] DAYS = {"UT", "MW", "UTR", "M", "W"};
+    private static final String[] MODALITIES = {"LEC", "LAB", "INT"};
+
+    private SyntheticRows() {
+    }
+
+    /** Generates the rows with about three rows per CRN, 80 buildings and hourly 50-minute slots. */
+    static ScheduleRow[] generate(int rowCount, long seed) {
+        Random random = new Random(seed);
+        ScheduleRow[] rows = new ScheduleRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            ScheduleRow row = new ScheduleRow();
+            row.reset(i + 1);
+            int crn = 10000 + i / 3;
+            int course = crn % 900;
+            row.setText(ScheduleRow.CRN, Integer.toString(crn));
+            row.setText(ScheduleRow.COURSE_CODE, "ICS " + (100 + course));
+            row.setText(ScheduleRow.DEPARTMENT, "ICS");
+            row.setText(ScheduleRow.SECTION, "0" + (1 + crn % 9));
+            row.setText(ScheduleRow.TITLE, "Course " + course);
+            row.setText(ScheduleRow.MODALITY, MODALITIES[random.nextInt(MODALITIES.length)]);
+            row.setText(ScheduleRow.DAYS, DAYS[random.nextInt(DAYS.length)]);
+            int hour = 7 + random.nextInt(12);
+            row.setStartTime(LocalTime.of(hour, 0));
+            row.setEndTime(LocalTime.of(hour, 50));
+            row.setText(ScheduleRow.BUILDING, Integer.toString(1 + random.nextInt(80)));
+            row.setText(ScheduleRow.ROOM, Integer.toString(100 + random.nextInt(40)));
+            row.setText(ScheduleRow.INSTRUCTOR, "Instructor " + random.nextInt(2000));
+            rows[i] = row;
+        }
+        return rows;
+    }
+}
@@ -4,15 +4,19 @@ import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class CourseOffering {
+    private static final int DAY_COUNT = DayOfWeek.values().length;
+
     private final String crn;
     private final String section;
     private final DeliveryMode deliveryMode;
     private final Course course;
     private Instructor instructor;
     private final List<MeetingSession> sessions;
+    private final List<List<MeetingSession>> sessionsByDay;
+    private final List<List<MeetingSession>> sessionsByDayViews;
+    private int dayMask;
 
     /** Captures the metadata for a single CRN/section pairing and seeds its sessions list. */
     public CourseOffering(String crn, String section, DeliveryMode deliveryMode, Course course, Instructor instructor) {
@@ -28,6 +32,12 @@ public class CourseOffering {
         this.course = course;
         this.instructor = instructor;
         this.sessions = new ArrayList<>();
+        this.sessionsByDay = new ArrayList<>(DAY_COUNT);
+        this.sessionsByDayViews = new ArrayList<>(DAY_COUNT);
+        for (int day = 0; day < DAY_COUNT; day++) {
+            sessionsByDay.add(null);
+            sessionsByDayViews.add(List.of());
+        }
     }
 
     /** Returns the CRN identifier used in lookups and user input. */
@@ -68,6 +78,15 @@ public class CourseOffering {
             throw new IllegalArgumentException("Session is required");
         }
         sessions.add(session);
+        int day = session.getDay().ordinal();
+        List<MeetingSession> bucket = sessionsByDay.get(day);
+        if (bucket == null) {
+            bucket = new ArrayList<>(2);
+            sessionsByDay.set(day, bucket);
+            sessionsByDayViews.set(day, Collections.unmodifiableList(bucket));
+        }
+        bucket.add(session);
+        dayMask |= 1 << day;
     }
 
     /** Returns every scheduled meeting as an immutable list. */
@@ -75,10 +94,21 @@ public class CourseOffering {
         return Collections.unmodifiableList(sessions);
     }
 
-    /** Filters the sessions to those that occur on the requested day. */
+    /** Returns the sessions that occur on the requested day from its pre-bucketed view, without copying. */
     public List<MeetingSession> getSessionsByDay(DayOfWeek day) {
-        return sessions.stream()
-                .filter(s -> s.getDay() == day)
-                .collect(Collectors.toUnmodifiableList());
+        if (day == null) {
+            return List.of();
+        }
+        return sessionsByDayViews.get(day.ordinal());
+    }
+
+    /** Returns a 7-bit mask with bit DayOfWeek.ordinal() set for every day the offering meets. */
+    public int getDayMask() {
+        return dayMask;
+    }
+
+    /** Indicates whether any session falls on the given day with a single bit test. */
+    public boolean meetsOn(DayOfWeek day) {
+        return day != null && (dayMask & (1 << day.ordinal())) != 0;
     }
 }
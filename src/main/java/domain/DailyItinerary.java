@@ -3,7 +3,6 @@ package domain;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
 public class DailyItinerary {
@@ -38,6 +37,6 @@ public class DailyItinerary {
 
     /** Orders the entries chronologically based on their start times. */
     public void sortByStartTime() {
-        entries.sort(Comparator.comparing(ItineraryEntry::getStartTime));
+        entries.sort(ItineraryEntry.BY_START_TIME);
     }
 }
@@ -1,8 +1,13 @@
 package domain;
 
 import java.time.LocalTime;
+import java.util.Comparator;
 
 public class ItineraryEntry {
+    /** Orders entries chronologically by their sessions' packed start minutes. */
+    public static final Comparator<ItineraryEntry> BY_START_TIME =
+            (a, b) -> TimeSlot.BY_START.compare(a.session.getTimeSlot(), b.session.getTimeSlot());
+
     private final CourseOffering courseOffering;
     private final MeetingSession session;
 
@@ -0,0 +1,357 @@
+package domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interval index over the sessions of a TermSchedule, kept per (building, day) and per
+ * (room, day). Each timeline holds its sessions, paired with their offerings, sorted by start
+ * minute, a centered interval tree for stabbing queries and the merged busy intervals, so overlap,
+ * point and next-free-slot queries run in O(log n + k) instead of testing every session. Results
+ * are ItineraryEntry pairs, so callers can tell which offering occupies a room.
+ */
+public final class OccupancyIndex {
+    private static final int END_OF_DAY = 24 * 60;
+
+    private final List<Map<String, Timeline>> buildingTimelines = new ArrayList<>();
+    private final List<Map<String, Timeline>> roomTimelines = new ArrayList<>();
+
+    /** Groups the offering/session pairs by building and room for every day and sorts each group once. */
+    OccupancyIndex(Collection<CourseOffering> offerings) {
+        List<Map<String, List<ItineraryEntry>>> byBuilding = new ArrayList<>();
+        List<Map<String, List<ItineraryEntry>>> byRoom = new ArrayList<>();
+        for (int day = 0; day < DayOfWeek.values().length; day++) {
+            byBuilding.add(new HashMap<>());
+            byRoom.add(new HashMap<>());
+        }
+        for (CourseOffering offering : offerings) {
+            for (MeetingSession session : offering.getSessions()) {
+                int day = session.getDay().ordinal();
+                ItineraryEntry entry = new ItineraryEntry(offering, session);
+                byBuilding.get(day).computeIfAbsent(session.getBuilding().getCode(), key -> new ArrayList<>()).add(entry);
+                byRoom.get(day).computeIfAbsent(roomKey(session.getBuilding().getCode(), session.getRoom().getNumber()),
+                        key -> new ArrayList<>()).add(entry);
+            }
+        }
+        for (int day = 0; day < DayOfWeek.values().length; day++) {
+            buildingTimelines.add(toTimelines(byBuilding.get(day)));
+            roomTimelines.add(toTimelines(byRoom.get(day)));
+        }
+    }
+
+    /** Lists the offerings' sessions in the building on the day that overlap [from, to), ordered by start. */
+    public List<ItineraryEntry> sessionsInBuilding(String buildingCode, DayOfWeek day, LocalTime from, LocalTime to) {
+        return overlapping(buildingTimeline(buildingCode, day), from, to);
+    }
+
+    /** Lists the offerings' sessions in the room on the day that overlap [from, to), ordered by start. */
+    public List<ItineraryEntry> sessionsInRoom(String buildingCode, String roomNumber, DayOfWeek day, LocalTime from, LocalTime to) {
+        return overlapping(roomTimeline(buildingCode, roomNumber, day), from, to);
+    }
+
+    /** Lists the offerings' sessions in progress in the building at the given instant. */
+    public List<ItineraryEntry> sessionsInBuildingAt(String buildingCode, DayOfWeek day, LocalTime at) {
+        int minute = minute(at);
+        return overlapping(buildingTimeline(buildingCode, day), minute, minute + 1);
+    }
+
+    /** Indicates whether the room hosts a session at the given instant. */
+    public boolean isRoomOccupied(String buildingCode, String roomNumber, DayOfWeek day, LocalTime at) {
+        Timeline timeline = roomTimeline(buildingCode, roomNumber, day);
+        return timeline != null && timeline.busyIntervalAt(minute(at)) >= 0;
+    }
+
+    /**
+     * Returns the earliest time at or after from when the room stays free for the given number of
+     * minutes before midnight, or null when no such gap exists.
+     */
+    public LocalTime nextFreeSlotInRoom(String buildingCode, String roomNumber, DayOfWeek day, LocalTime from, int minutes) {
+        return nextFree(roomTimeline(buildingCode, roomNumber, day), from, minutes);
+    }
+
+    /** Same as nextFreeSlotInRoom, but the whole building must be free of sessions. */
+    public LocalTime nextFreeSlotInBuilding(String buildingCode, DayOfWeek day, LocalTime from, int minutes) {
+        return nextFree(buildingTimeline(buildingCode, day), from, minutes);
+    }
+
+    /** Finds the timeline of a building on a day, or null when nothing is scheduled there. */
+    private Timeline buildingTimeline(String buildingCode, DayOfWeek day) {
+        if (buildingCode == null || buildingCode.isBlank()) {
+            throw new IllegalArgumentException("Building code is required");
+        }
+        return buildingTimelines.get(requireDay(day).ordinal()).get(buildingCode.trim());
+    }
+
+    /** Finds the timeline of a room on a day, or null when nothing is scheduled there. */
+    private Timeline roomTimeline(String buildingCode, String roomNumber, DayOfWeek day) {
+        if (buildingCode == null || buildingCode.isBlank()) {
+            throw new IllegalArgumentException("Building code is required");
+        }
+        if (roomNumber == null || roomNumber.isBlank()) {
+            throw new IllegalArgumentException("Room number is required");
+        }
+        return roomTimelines.get(requireDay(day).ordinal()).get(roomKey(buildingCode.trim(), roomNumber.trim()));
+    }
+
+    /** Converts a LocalTime range to minutes and runs the overlap query. */
+    private static List<ItineraryEntry> overlapping(Timeline timeline, LocalTime from, LocalTime to) {
+        int fromMinute = minute(from);
+        int toMinute = minute(to);
+        if (toMinute <= fromMinute) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        return overlapping(timeline, fromMinute, toMinute);
+    }
+
+    /**
+     * Collects the sessions whose [start, end) intersects [from, to): those already running at from,
+     * found through the interval tree, followed by the contiguous run starting inside (from, to).
+     */
+    private static List<ItineraryEntry> overlapping(Timeline timeline, int from, int to) {
+        if (timeline == null) {
+            return List.of();
+        }
+        int[] running = timeline.runningAt(from);
+        int first = timeline.countStartingBefore(from + 1);
+        int last = timeline.countStartingBefore(to);
+        List<ItineraryEntry> result = new ArrayList<>(running.length + Math.max(0, last - first));
+        for (int index : running) {
+            result.add(timeline.entries[index]);
+        }
+        for (int i = first; i < last; i++) {
+            result.add(timeline.entries[i]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Walks the merged busy intervals from the one containing or following from to find a long enough gap. */
+    private static LocalTime nextFree(Timeline timeline, LocalTime from, int minutes) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("Free slot length must be positive");
+        }
+        int candidate = minute(from);
+        if (timeline != null) {
+            int interval = timeline.busyIntervalAt(candidate);
+            if (interval >= 0) {
+                candidate = timeline.busyEnds[interval];
+                interval++;
+            } else {
+                interval = timeline.firstBusyStartingAfter(candidate);
+            }
+            for (; interval < timeline.busyStarts.length; interval++) {
+                if (timeline.busyStarts[interval] - candidate >= minutes) {
+                    break;
+                }
+                candidate = timeline.busyEnds[interval];
+            }
+        }
+        if (END_OF_DAY - candidate < minutes) {
+            return null;
+        }
+        return LocalTime.of(candidate / 60, candidate % 60);
+    }
+
+    /** Builds a timeline for every key. */
+    private static Map<String, Timeline> toTimelines(Map<String, List<ItineraryEntry>> groups) {
+        Map<String, Timeline> timelines = new HashMap<>(groups.size() * 2);
+        groups.forEach((key, entries) -> timelines.put(key, new Timeline(entries)));
+        return timelines;
+    }
+
+    /** Combines building code and room number into a map key. */
+    private static String roomKey(String buildingCode, String roomNumber) {
+        return buildingCode + "-" + roomNumber;
+    }
+
+    /** Validates the day argument. */
+    private static DayOfWeek requireDay(DayOfWeek day) {
+        if (day == null) {
+            throw new IllegalArgumentException("Day is required");
+        }
+        return day;
+    }
+
+    /** Validates and packs a time argument. */
+    private static int minute(LocalTime time) {
+        if (time == null) {
+            throw new IllegalArgumentException("Time is required");
+        }
+        return TimeSlot.minuteOfDay(time);
+    }
+
+    /** Sessions of one key sorted by start, with a centered interval tree and merged busy intervals. */
+    private static final class Timeline {
+        private final ItineraryEntry[] entries;
+        private final int[] starts;
+        private final int[] ends;
+        private final Node root;
+        private final int[] busyStarts;
+        private final int[] busyEnds;
+
+        /** Sorts the sessions and derives the interval tree and the merged intervals. */
+        private Timeline(List<ItineraryEntry> source) {
+            entries = source.toArray(new ItineraryEntry[0]);
+            Arrays.sort(entries, ItineraryEntry.BY_START_TIME);
+            starts = new int[entries.length];
+            ends = new int[entries.length];
+            int[] mergedStarts = new int[entries.length];
+            int[] mergedEnds = new int[entries.length];
+            int merged = 0;
+            for (int i = 0; i < entries.length; i++) {
+                TimeSlot timeSlot = entries[i].getSession().getTimeSlot();
+                starts[i] = timeSlot.getStartMinute();
+                ends[i] = timeSlot.getEndMinute();
+                if (merged > 0 && starts[i] <= mergedEnds[merged - 1]) {
+                    mergedEnds[merged - 1] = Math.max(mergedEnds[merged - 1], ends[i]);
+                } else {
+                    mergedStarts[merged] = starts[i];
+                    mergedEnds[merged] = ends[i];
+                    merged++;
+                }
+            }
+            busyStarts = Arrays.copyOf(mergedStarts, merged);
+            busyEnds = Arrays.copyOf(mergedEnds, merged);
+            int[] all = new int[entries.length];
+            for (int i = 0; i < all.length; i++) {
+                all[i] = i;
+            }
+            root = build(all, all.length);
+        }
+
+        /**
+         * Builds the subtree over the first count indices, which are in start order. The center is
+         * the start of the median session, so the sessions ending at or before it and those starting
+         * after it each hold less than half of the indices and the depth stays logarithmic.
+         */
+        private Node build(int[] indices, int count) {
+            if (count == 0) {
+                return null;
+            }
+            int center = starts[indices[count >>> 1]];
+            int[] left = new int[count];
+            int[] right = new int[count];
+            int[] spanning = new int[count];
+            int leftCount = 0;
+            int rightCount = 0;
+            int spanningCount = 0;
+            for (int i = 0; i < count; i++) {
+                int index = indices[i];
+                if (ends[index] <= center && starts[index] < center) {
+                    left[leftCount++] = index;
+                } else if (starts[index] > center) {
+                    right[rightCount++] = index;
+                } else {
+                    spanning[spanningCount++] = index;
+                }
+            }
+            int[] byStart = Arrays.copyOf(spanning, spanningCount);
+            Integer[] boxed = new Integer[spanningCount];
+            for (int i = 0; i < spanningCount; i++) {
+                boxed[i] = byStart[i];
+            }
+            Arrays.sort(boxed, (a, b) -> Integer.compare(ends[b], ends[a]));
+            int[] byEndDescending = new int[spanningCount];
+            for (int i = 0; i < spanningCount; i++) {
+                byEndDescending[i] = boxed[i];
+            }
+            return new Node(center, byStart, byEndDescending, build(left, leftCount), build(right, rightCount));
+        }
+
+        /**
+         * Returns the indices of the sessions in progress at the minute, in start order. Only one
+         * root-to-leaf path is walked and every session scanned along it is reported, so the cost
+         * is O(log n + k) before the k hits are put back into start order.
+         */
+        private int[] runningAt(int minute) {
+            int[] hits = new int[8];
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                if (minute < node.center) {
+                    for (int index : node.byStart) {
+                        if (starts[index] > minute) {
+                            break;
+                        }
+                        if (count == hits.length) {
+                            hits = Arrays.copyOf(hits, count * 2);
+                        }
+                        hits[count++] = index;
+                    }
+                    node = node.left;
+                } else {
+                    for (int index : node.byEndDescending) {
+                        if (ends[index] <= minute) {
+                            break;
+                        }
+                        if (count == hits.length) {
+                            hits = Arrays.copyOf(hits, count * 2);
+                        }
+                        hits[count++] = index;
+                    }
+                    node = node.right;
+                }
+            }
+            int[] result = Arrays.copyOf(hits, count);
+            Arrays.sort(result);
+            return result;
+        }
+
+        /** Returns how many sessions start before the minute. */
+        private int countStartingBefore(int minute) {
+            return lowerBound(starts, starts.length, minute);
+        }
+
+        /** Returns the index of the merged busy interval containing the minute, or -1. */
+        private int busyIntervalAt(int minute) {
+            int index = lowerBound(busyStarts, busyStarts.length, minute + 1) - 1;
+            return index >= 0 && busyEnds[index] > minute ? index : -1;
+        }
+
+        /** Returns the index of the first merged busy interval starting after the minute. */
+        private int firstBusyStartingAfter(int minute) {
+            return lowerBound(busyStarts, busyStarts.length, minute + 1);
+        }
+
+        /** Returns the first index in the sorted prefix whose value is at least the key. */
+        private static int lowerBound(int[] values, int length, int key) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Centered interval tree node: the sessions spanning the center, sorted by start and by
+     * descending end, with the sessions entirely before it on the left and entirely after it on the right.
+     */
+    private static final class Node {
+        private final int center;
+        private final int[] byStart;
+        private final int[] byEndDescending;
+        private final Node left;
+        private final Node right;
+
+        private Node(int center, int[] byStart, int[] byEndDescending, Node left, Node right) {
+            this.center = center;
+            this.byStart = byStart;
+            this.byEndDescending = byEndDescending;
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
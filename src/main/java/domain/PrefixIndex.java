@@ -0,0 +1,117 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sorted-array prefix index over CRNs, course codes and the words of course titles. Each kind of
+ * key lives in its own array sorted case-insensitively, so a lookup is one binary search followed
+ * by a walk over the matching run; suggestions rank CRN matches first, then codes, then titles.
+ */
+public final class PrefixIndex {
+    private final CourseOffering[] offerings;
+    private final Keys crns;
+    private final Keys courseCodes;
+    private final Keys titleWords;
+
+    /** Collects and sorts the keys of every offering once. */
+    PrefixIndex(Collection<CourseOffering> source) {
+        offerings = source.toArray(new CourseOffering[0]);
+        List<Entry> crnEntries = new ArrayList<>(offerings.length);
+        List<Entry> codeEntries = new ArrayList<>(offerings.length * 2);
+        List<Entry> titleEntries = new ArrayList<>(offerings.length * 4);
+        for (int ordinal = 0; ordinal < offerings.length; ordinal++) {
+            CourseOffering offering = offerings[ordinal];
+            crnEntries.add(new Entry(normalize(offering.getCrn()), ordinal));
+            String code = normalize(offering.getCourse().getCode());
+            codeEntries.add(new Entry(code, ordinal));
+            String compactCode = code.replace(" ", "");
+            if (!compactCode.equals(code)) {
+                codeEntries.add(new Entry(compactCode, ordinal));
+            }
+            for (String word : normalize(offering.getCourse().getTitle()).split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() > 1) {
+                    titleEntries.add(new Entry(word, ordinal));
+                }
+            }
+        }
+        crns = new Keys(crnEntries);
+        courseCodes = new Keys(codeEntries);
+        titleWords = new Keys(titleEntries);
+    }
+
+    /**
+     * Returns up to limit distinct offerings whose CRN, course code or a title word starts with the
+     * prefix, ignoring case; CRN matches come first, then course codes, then titles.
+     */
+    public List<CourseOffering> suggest(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        String key = normalize(prefix);
+        List<CourseOffering> result = new ArrayList<>(Math.min(limit, 16));
+        BitSet seen = new BitSet();
+        crns.collect(key, limit, seen, result);
+        courseCodes.collect(key, limit, seen, result);
+        titleWords.collect(key, limit, seen, result);
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Lowercases and trims a key so matching ignores case and padding. */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** One key pointing at an offering ordinal, used only while building. */
+    private record Entry(String key, int ordinal) {
+    }
+
+    /** Parallel sorted arrays of keys and the ordinals of the offerings they belong to. */
+    private final class Keys {
+        private final String[] keys;
+        private final int[] ordinals;
+
+        /** Sorts the entries by key, keeping schedule order among equal keys. */
+        private Keys(List<Entry> entries) {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, (a, b) -> {
+                int cmp = a.key().compareTo(b.key());
+                return cmp != 0 ? cmp : Integer.compare(a.ordinal(), b.ordinal());
+            });
+            keys = new String[sorted.length];
+            ordinals = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = sorted[i].key();
+                ordinals[i] = sorted[i].ordinal();
+            }
+        }
+
+        /** Appends unseen offerings from the run of keys starting with the prefix until the limit is reached. */
+        private void collect(String prefix, int limit, BitSet seen, List<CourseOffering> result) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < keys.length && result.size() < limit && keys[i].startsWith(prefix); i++) {
+                if (!seen.get(ordinals[i])) {
+                    seen.set(ordinals[i]);
+                    result.add(offerings[ordinals[i]]);
+                }
+            }
+        }
+    }
+}
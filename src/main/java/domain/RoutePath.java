@@ -1,45 +1,42 @@
 package domain;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+/**
+ * Immutable ordered route through a day's buildings. Instances are memoized and handed to every
+ * caller with the same building sequence, so they expose no mutators.
+ */
 public class RoutePath {
     private final List<Building> orderedBuildings;
     private final List<RouteSegment> segments;
-    private double totalDistanceMeters;
+    private final double totalDistanceMeters;
 
-    /** Initializes an empty route ready to collect buildings and segments. */
+    /** Creates a route without stops. */
     public RoutePath() {
-        this.orderedBuildings = new ArrayList<>();
-        this.segments = new ArrayList<>();
-        this.totalDistanceMeters = 0.0;
+        this(List.of(), List.of(), 0.0);
     }
 
-    /** Appends a building to the chronological list of visited locations. */
-    public void addStop(Building building) {
-        if (building == null) {
-            throw new IllegalArgumentException("Building is required");
+    /** Captures the visited buildings, the legs between them and their total walking distance. */
+    public RoutePath(List<Building> orderedBuildings, List<RouteSegment> segments, double totalDistanceMeters) {
+        if (orderedBuildings == null || segments == null) {
+            throw new IllegalArgumentException("Buildings and segments are required");
         }
-        orderedBuildings.add(building);
-    }
-
-    /** Records a travel leg between two consecutive buildings. */
-    public void addSegment(RouteSegment segment) {
-        if (segment == null) {
-            throw new IllegalArgumentException("Segment is required");
+        if (totalDistanceMeters < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
         }
-        segments.add(segment);
+        this.orderedBuildings = List.copyOf(orderedBuildings);
+        this.segments = List.copyOf(segments);
+        this.totalDistanceMeters = totalDistanceMeters;
     }
 
     /** Returns the stops in the order the student visits them. */
     public List<Building> getOrderedBuildings() {
-        return Collections.unmodifiableList(orderedBuildings);
+        return orderedBuildings;
     }
 
     /** Provides the immutable list of route segments for rendering. */
     public List<RouteSegment> getSegments() {
-        return Collections.unmodifiableList(segments);
+        return segments;
     }
 
     /** Returns the accumulated walking distance across the route. */
@@ -47,14 +44,6 @@ public class RoutePath {
         return totalDistanceMeters;
     }
 
-    /** Updates the total distance once segments have been processed. */
-    public void setTotalDistanceMeters(double totalDistanceMeters) {
-        if (totalDistanceMeters < 0) {
-            throw new IllegalArgumentException("Distance cannot be negative");
-        }
-        this.totalDistanceMeters = totalDistanceMeters;
-    }
-
     /** Indicates whether any stops have been recorded yet. */
     public boolean isEmpty() {
         return orderedBuildings.isEmpty();
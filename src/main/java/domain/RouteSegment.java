@@ -1,12 +1,22 @@
 package domain;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class RouteSegment {
     private final Building from;
     private final Building to;
     private final double distanceMeters;
+    private final List<CampusCoordinate> path;
 
     /** Represents one leg of the walking route between two buildings. */
     public RouteSegment(Building from, Building to, double distanceMeters) {
+        this(from, to, distanceMeters, null);
+    }
+
+    /** Represents a leg that follows the given polyline; a null or short path means a straight line. */
+    public RouteSegment(Building from, Building to, double distanceMeters, List<CampusCoordinate> path) {
         if (from == null || to == null) {
             throw new IllegalArgumentException("Route segment endpoints are required");
         }
@@ -16,6 +26,9 @@ public class RouteSegment {
         this.from = from;
         this.to = to;
         this.distanceMeters = distanceMeters;
+        this.path = path == null || path.size() < 2
+                ? List.of(from.getLocation(), to.getLocation())
+                : Collections.unmodifiableList(new ArrayList<>(path));
     }
 
     /** Returns the origin building of the segment. */
@@ -32,4 +45,9 @@ public class RouteSegment {
     public double getDistanceMeters() {
         return distanceMeters;
     }
+
+    /** Returns the points the leg passes through, starting and ending at the two buildings. */
+    public List<CampusCoordinate> getPath() {
+        return path;
+    }
 }
@@ -11,6 +11,7 @@ public class RouteVisualizationModel {
     private final List<Building> buildings;
     private final RoutePath routePath;
     private final List<String> summaryLines;
+    private final List<Transfer> transfers;
 
     /** Bundles all data needed by the UI to render the visualization and summary. */
     public RouteVisualizationModel(DayOfWeek day,
@@ -18,10 +19,20 @@ public class RouteVisualizationModel {
                                    List<Building> buildings,
                                    RoutePath routePath,
                                    List<String> summaryLines) {
+        this(day, courses, buildings, routePath, summaryLines, List.of());
+    }
+
+    /** Bundles the visualization with the feasibility annotation of each leg, in route order. */
+    public RouteVisualizationModel(DayOfWeek day,
+                                   List<CourseOffering> courses,
+                                   List<Building> buildings,
+                                   RoutePath routePath,
+                                   List<String> summaryLines,
+                                   List<Transfer> transfers) {
         if (day == null) {
             throw new IllegalArgumentException("Day is required");
         }
-        if (courses == null || buildings == null || routePath == null || summaryLines == null) {
+        if (courses == null || buildings == null || routePath == null || summaryLines == null || transfers == null) {
             throw new IllegalArgumentException("Visualization components cannot be null");
         }
         this.day = day;
@@ -29,6 +40,7 @@ public class RouteVisualizationModel {
         this.buildings = new ArrayList<>(buildings);
         this.routePath = routePath;
         this.summaryLines = new ArrayList<>(summaryLines);
+        this.transfers = new ArrayList<>(transfers);
     }
 
     /** Returns the day represented by this visualization. */
@@ -55,4 +67,14 @@ public class RouteVisualizationModel {
     public List<String> getSummaryLines() {
         return Collections.unmodifiableList(summaryLines);
     }
+
+    /** Lists the walk-time and gap annotation of every leg, in the same order as the route's segments. */
+    public List<Transfer> getTransfers() {
+        return Collections.unmodifiableList(transfers);
+    }
+
+    /** Returns the transfers that are tight or infeasible. */
+    public List<Transfer> getFlaggedTransfers() {
+        return transfers.stream().filter(Transfer::isFlagged).toList();
+    }
 }
@@ -0,0 +1,277 @@
+package domain;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Secondary indexes over a frozen TermSchedule. Offerings and their sessions get dense ordinals
+ * in schedule order. The few day keys cover large shares of the term and map to BitSets, while the
+ * many building, instructor and course keys each cover a handful of ordinals and map to sorted
+ * int[] postings, so multi-criteria questions intersect postings and test day bits instead of
+ * walking every offering and session list.
+ */
+public final class ScheduleIndex {
+    private static final int[] NO_ORDINALS = new int[0];
+
+    private final CourseOffering[] offerings;
+    private final MeetingSession[] sessions;
+    private final int[] sessionOwners;
+    private final BitSet[] sessionsByDay = new BitSet[DayOfWeek.values().length];
+    private final BitSet[] offeringsByDay = new BitSet[DayOfWeek.values().length];
+    private final Map<String, int[]> sessionsByBuilding;
+    private final Map<String, int[]> offeringsByBuilding;
+    private final Map<String, int[]> offeringsByInstructor;
+    private final Map<String, int[]> offeringsByCourse;
+
+    /** Assigns ordinals and fills every index in a single pass over the offerings. */
+    ScheduleIndex(Collection<CourseOffering> source) {
+        offerings = source.toArray(new CourseOffering[0]);
+        int sessionCount = 0;
+        for (CourseOffering offering : offerings) {
+            sessionCount += offering.getSessions().size();
+        }
+        sessions = new MeetingSession[sessionCount];
+        sessionOwners = new int[sessionCount];
+        for (int day = 0; day < sessionsByDay.length; day++) {
+            sessionsByDay[day] = new BitSet(sessionCount);
+            offeringsByDay[day] = new BitSet(offerings.length);
+        }
+
+        Map<String, Postings> sessionBuildings = new HashMap<>();
+        Map<String, Postings> offeringBuildings = new HashMap<>();
+        Map<String, Postings> instructors = new HashMap<>();
+        Map<String, Postings> courses = new HashMap<>();
+        int next = 0;
+        for (int ordinal = 0; ordinal < offerings.length; ordinal++) {
+            CourseOffering offering = offerings[ordinal];
+            courses.computeIfAbsent(offering.getCourse().getCode(), key -> new Postings()).add(ordinal);
+            if (offering.getInstructor() != null) {
+                instructors.computeIfAbsent(offering.getInstructor().getName(), key -> new Postings()).add(ordinal);
+            }
+            for (MeetingSession session : offering.getSessions()) {
+                String buildingCode = session.getBuilding().getCode();
+                sessions[next] = session;
+                sessionOwners[next] = ordinal;
+                sessionsByDay[session.getDay().ordinal()].set(next);
+                offeringsByDay[session.getDay().ordinal()].set(ordinal);
+                sessionBuildings.computeIfAbsent(buildingCode, key -> new Postings()).add(next);
+                offeringBuildings.computeIfAbsent(buildingCode, key -> new Postings()).add(ordinal);
+                next++;
+            }
+        }
+        sessionsByBuilding = freeze(sessionBuildings);
+        offeringsByBuilding = freeze(offeringBuildings);
+        offeringsByInstructor = freeze(instructors);
+        offeringsByCourse = freeze(courses);
+    }
+
+    /** Returns the number of offerings, which bounds every offering ordinal. */
+    public int offeringCount() {
+        return offerings.length;
+    }
+
+    /** Returns the number of sessions, which bounds every session ordinal. */
+    public int sessionCount() {
+        return sessions.length;
+    }
+
+    /** Returns the offering with the given ordinal. */
+    public CourseOffering offeringAt(int ordinal) {
+        return offerings[ordinal];
+    }
+
+    /** Returns the session with the given ordinal. */
+    public MeetingSession sessionAt(int ordinal) {
+        return sessions[ordinal];
+    }
+
+    /** Returns the ordinal of the offering that owns the given session. */
+    public int ownerOf(int sessionOrdinal) {
+        return sessionOwners[sessionOrdinal];
+    }
+
+    /** Lists every session held on the given day. */
+    public List<MeetingSession> sessionsOn(DayOfWeek day) {
+        if (day == null) {
+            throw new IllegalArgumentException("Day is required");
+        }
+        BitSet bits = sessionsByDay[day.ordinal()];
+        List<MeetingSession> result = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            result.add(sessions[i]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Lists every session held in the building with the given code. */
+    public List<MeetingSession> sessionsInBuilding(String buildingCode) {
+        return toSessions(lookup(sessionsByBuilding, buildingCode));
+    }
+
+    /** Lists the offerings taught by the named instructor. */
+    public List<CourseOffering> offeringsTaughtBy(String instructorName) {
+        return toOfferings(lookup(offeringsByInstructor, instructorName));
+    }
+
+    /** Lists every section of the course with the given code. */
+    public List<CourseOffering> sectionsOf(String courseCode) {
+        return toOfferings(lookup(offeringsByCourse, courseCode));
+    }
+
+    /** Lists the sessions held on the day in the building; either criterion may be null to match all. */
+    public List<MeetingSession> findSessions(DayOfWeek day, String buildingCode) {
+        if (buildingCode == null) {
+            return day == null ? List.of(sessions) : sessionsOn(day);
+        }
+        int[] ordinals = lookup(sessionsByBuilding, buildingCode);
+        return toSessions(day == null ? ordinals : retain(ordinals, sessionsByDay[day.ordinal()]));
+    }
+
+    /**
+     * Lists the offerings that meet on the day, have a session in the building, are taught by the
+     * instructor and belong to the course; any criterion may be null to match all.
+     */
+    public List<CourseOffering> findOfferings(DayOfWeek day, String buildingCode, String instructorName, String courseCode) {
+        int[] result = null;
+        if (courseCode != null) {
+            result = lookup(offeringsByCourse, courseCode);
+        }
+        if (instructorName != null) {
+            result = intersect(result, lookup(offeringsByInstructor, instructorName));
+        }
+        if (buildingCode != null) {
+            result = intersect(result, lookup(offeringsByBuilding, buildingCode));
+        }
+        if (result == null) {
+            if (day == null) {
+                return List.of(offerings);
+            }
+            BitSet bits = offeringsByDay[day.ordinal()];
+            List<CourseOffering> matches = new ArrayList<>(bits.cardinality());
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                matches.add(offerings[i]);
+            }
+            return Collections.unmodifiableList(matches);
+        }
+        return toOfferings(day == null ? result : retain(result, offeringsByDay[day.ordinal()]));
+    }
+
+    /** Returns a copy of the session ordinals held on the day. */
+    public BitSet sessionBitsOn(DayOfWeek day) {
+        if (day == null) {
+            throw new IllegalArgumentException("Day is required");
+        }
+        return (BitSet) sessionsByDay[day.ordinal()].clone();
+    }
+
+    /** Returns a copy of the ascending session ordinals held in the building. */
+    public int[] sessionOrdinalsInBuilding(String buildingCode) {
+        return lookup(sessionsByBuilding, buildingCode).clone();
+    }
+
+    /** Returns a copy of the ascending offering ordinals taught by the instructor. */
+    public int[] offeringOrdinalsTaughtBy(String instructorName) {
+        return lookup(offeringsByInstructor, instructorName).clone();
+    }
+
+    /** Returns a copy of the ascending offering ordinals that are sections of the course. */
+    public int[] offeringOrdinalsOf(String courseCode) {
+        return lookup(offeringsByCourse, courseCode).clone();
+    }
+
+    /** Finds the postings for a trimmed key, or an empty array when the key is unknown. */
+    private static int[] lookup(Map<String, int[]> index, String key) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Lookup key is required");
+        }
+        int[] ordinals = index.get(key.trim());
+        return ordinals == null ? NO_ORDINALS : ordinals;
+    }
+
+    /** Merges two ascending postings into their intersection; a null left side stands for everything. */
+    private static int[] intersect(int[] left, int[] right) {
+        if (left == null) {
+            return right;
+        }
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Keeps the ordinals whose bit is set. */
+    private static int[] retain(int[] ordinals, BitSet bits) {
+        int[] result = new int[ordinals.length];
+        int count = 0;
+        for (int ordinal : ordinals) {
+            if (bits.get(ordinal)) {
+                result[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Trims every builder to an exact-size array. */
+    private static Map<String, int[]> freeze(Map<String, Postings> builders) {
+        Map<String, int[]> frozen = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, postings) -> frozen.put(key, postings.toArray()));
+        return frozen;
+    }
+
+    /** Materializes session ordinals in ordinal order. */
+    private List<MeetingSession> toSessions(int[] ordinals) {
+        List<MeetingSession> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(sessions[ordinal]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Materializes offering ordinals in ordinal order. */
+    private List<CourseOffering> toOfferings(int[] ordinals) {
+        List<CourseOffering> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(offerings[ordinal]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Growable ascending ordinal list that ignores an ordinal repeated back to back. */
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar copy of every session in a TermSchedule: one row per session stored as parallel
+ * primitive arrays, with building codes and rooms dictionary-encoded to dense ids. Rows follow
+ * the same offering and session order as ScheduleIndex, so offering ids equal its ordinals.
+ * Campus-wide scans run as tight loops over the arrays instead of walking the object graph.
+ */
+public final class SessionTable {
+    /** Wildcard accepted by the scan methods for the day and building criteria. */
+    public static final int ANY = -1;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final ActivityType[] ACTIVITY_TYPES = ActivityType.values();
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private final CourseOffering[] offerings;
+    private final int[] offeringIds;
+    private final byte[] days;
+    private final short[] startMinutes;
+    private final short[] endMinutes;
+    private final int[] buildingIds;
+    private final int[] roomIds;
+    private final byte[] activityTypes;
+    private final String[] buildingCodes;
+    private final Room[] rooms;
+    private final Map<String, Integer> buildingIdsByCode;
+
+    /** Flattens the offerings' sessions into columns in a single pass. */
+    SessionTable(Collection<CourseOffering> source) {
+        offerings = source.toArray(new CourseOffering[0]);
+        int size = 0;
+        for (CourseOffering offering : offerings) {
+            size += offering.getSessions().size();
+        }
+        offeringIds = new int[size];
+        days = new byte[size];
+        startMinutes = new short[size];
+        endMinutes = new short[size];
+        buildingIds = new int[size];
+        roomIds = new int[size];
+        activityTypes = new byte[size];
+
+        Map<String, Integer> buildingDictionary = new HashMap<>();
+        Map<String, Integer> roomDictionary = new HashMap<>();
+        Map<Integer, Room> roomsById = new HashMap<>();
+        int row = 0;
+        for (int offeringId = 0; offeringId < offerings.length; offeringId++) {
+            for (MeetingSession session : offerings[offeringId].getSessions()) {
+                Room room = session.getRoom();
+                int buildingId = buildingDictionary.computeIfAbsent(room.getBuilding().getCode(),
+                        key -> buildingDictionary.size());
+                int roomId = roomDictionary.computeIfAbsent(room.toString(), key -> roomDictionary.size());
+                roomsById.putIfAbsent(roomId, room);
+                offeringIds[row] = offeringId;
+                days[row] = (byte) session.getDay().ordinal();
+                startMinutes[row] = (short) session.getTimeSlot().getStartMinute();
+                endMinutes[row] = (short) session.getTimeSlot().getEndMinute();
+                buildingIds[row] = buildingId;
+                roomIds[row] = roomId;
+                activityTypes[row] = (byte) session.getActivityType().ordinal();
+                row++;
+            }
+        }
+        buildingCodes = new String[buildingDictionary.size()];
+        buildingDictionary.forEach((code, id) -> buildingCodes[id] = code);
+        rooms = new Room[roomDictionary.size()];
+        roomsById.forEach((id, room) -> rooms[id] = room);
+        buildingIdsByCode = buildingDictionary;
+    }
+
+    /** Returns the number of session rows. */
+    public int size() {
+        return offeringIds.length;
+    }
+
+    /** Returns the id of the offering that owns the row. */
+    public int offeringIdAt(int row) {
+        return offeringIds[row];
+    }
+
+    /** Returns the offering for an offering id. */
+    public CourseOffering offering(int offeringId) {
+        return offerings[offeringId];
+    }
+
+    /** Returns the day of the row. */
+    public DayOfWeek dayAt(int row) {
+        return DAYS[days[row]];
+    }
+
+    /** Returns the start of the row as minutes after midnight. */
+    public int startMinuteAt(int row) {
+        return startMinutes[row];
+    }
+
+    /** Returns the end of the row as minutes after midnight. */
+    public int endMinuteAt(int row) {
+        return endMinutes[row];
+    }
+
+    /** Returns the dictionary id of the row's building. */
+    public int buildingIdAt(int row) {
+        return buildingIds[row];
+    }
+
+    /** Returns the dictionary id of the row's room. */
+    public int roomIdAt(int row) {
+        return roomIds[row];
+    }
+
+    /** Returns the activity type of the row. */
+    public ActivityType activityTypeAt(int row) {
+        return ACTIVITY_TYPES[activityTypes[row]];
+    }
+
+    /** Returns the number of distinct buildings in the dictionary. */
+    public int buildingCount() {
+        return buildingCodes.length;
+    }
+
+    /** Decodes a building id to its code. */
+    public String buildingCode(int buildingId) {
+        return buildingCodes[buildingId];
+    }
+
+    /** Encodes a building code to its id, or returns -1 when no session uses it. */
+    public int buildingId(String buildingCode) {
+        if (buildingCode == null || buildingCode.isBlank()) {
+            throw new IllegalArgumentException("Building code is required");
+        }
+        Integer id = buildingIdsByCode.get(buildingCode.trim());
+        return id == null ? -1 : id;
+    }
+
+    /** Returns the number of distinct rooms in the dictionary. */
+    public int roomCount() {
+        return rooms.length;
+    }
+
+    /** Decodes a room id to its room. */
+    public Room room(int roomId) {
+        return rooms[roomId];
+    }
+
+    /**
+     * Returns the rows held on the day in the building that start at or after the given minute.
+     * Pass ANY for the day ordinal or building id to leave that criterion open.
+     */
+    public int[] findRows(int dayOrdinal, int buildingId, int fromMinute) {
+        int[] matches = new int[size()];
+        int count = 0;
+        for (int row = 0; row < matches.length; row++) {
+            if (matches(row, dayOrdinal, buildingId, fromMinute)) {
+                matches[count++] = row;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /** Same scan as findRows, split into parallel ranges once the table is large enough to benefit. */
+    public int[] findRowsParallel(int dayOrdinal, int buildingId, int fromMinute) {
+        if (size() < PARALLEL_THRESHOLD) {
+            return findRows(dayOrdinal, buildingId, fromMinute);
+        }
+        return IntStream.range(0, size())
+                .parallel()
+                .filter(row -> matches(row, dayOrdinal, buildingId, fromMinute))
+                .toArray();
+    }
+
+    /** Convenience form of findRows taking domain values; a null day or building matches everything. */
+    public int[] findRows(DayOfWeek day, String buildingCode, LocalTime from) {
+        int buildingId = buildingCode == null ? ANY : buildingId(buildingCode);
+        if (buildingCode != null && buildingId < 0) {
+            return new int[0];
+        }
+        return findRowsParallel(day == null ? ANY : day.ordinal(), buildingId, from == null ? 0 : TimeSlot.minuteOfDay(from));
+    }
+
+    /** Tests one row against the scan criteria. */
+    private boolean matches(int row, int dayOrdinal, int buildingId, int fromMinute) {
+        return (dayOrdinal == ANY || days[row] == dayOrdinal)
+                && (buildingId == ANY || buildingIds[row] == buildingId)
+                && startMinutes[row] >= fromMinute;
+    }
+}
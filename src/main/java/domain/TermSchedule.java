@@ -9,6 +9,10 @@ import java.util.stream.Collectors;
 
 public class TermSchedule {
     private final Map<String, CourseOffering> offeringsByCrn;
+    private volatile ScheduleIndex index;
+    private volatile SessionTable sessionTable;
+    private volatile OccupancyIndex occupancyIndex;
+    private volatile PrefixIndex prefixIndex;
 
     /** Builds an index of course offerings keyed by CRN for fast lookups. */
     public TermSchedule(Collection<CourseOffering> offerings) {
@@ -47,4 +51,63 @@ public class TermSchedule {
         });
         return Collections.unmodifiableList(result);
     }
+
+    /**
+     * Returns the day, building, instructor and course indexes, building them on first use.
+     * The schedule is treated as frozen once constructed, so the indexes are built at most once.
+     */
+    public ScheduleIndex getIndex() {
+        ScheduleIndex result = index;
+        if (result == null) {
+            synchronized (this) {
+                if (index == null) {
+                    index = new ScheduleIndex(offeringsByCrn.values());
+                }
+                result = index;
+            }
+        }
+        return result;
+    }
+
+    /** Returns the columnar session table used by scan-heavy queries, building it on first use. */
+    public SessionTable getSessionTable() {
+        SessionTable result = sessionTable;
+        if (result == null) {
+            synchronized (this) {
+                if (sessionTable == null) {
+                    sessionTable = new SessionTable(offeringsByCrn.values());
+                }
+                result = sessionTable;
+            }
+        }
+        return result;
+    }
+
+    /** Returns the per-building and per-room interval index, building it on first use. */
+    public OccupancyIndex getOccupancyIndex() {
+        OccupancyIndex result = occupancyIndex;
+        if (result == null) {
+            synchronized (this) {
+                if (occupancyIndex == null) {
+                    occupancyIndex = new OccupancyIndex(offeringsByCrn.values());
+                }
+                result = occupancyIndex;
+            }
+        }
+        return result;
+    }
+
+    /** Returns the CRN, course code and title prefix index used for autocomplete, building it on first use. */
+    public PrefixIndex getPrefixIndex() {
+        PrefixIndex result = prefixIndex;
+        if (result == null) {
+            synchronized (this) {
+                if (prefixIndex == null) {
+                    prefixIndex = new PrefixIndex(offeringsByCrn.values());
+                }
+                result = prefixIndex;
+            }
+        }
+        return result;
+    }
 }
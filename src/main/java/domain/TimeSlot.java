@@ -2,36 +2,66 @@ package domain;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.util.Comparator;
 
 public class TimeSlot {
-    private final LocalTime start;
-    private final LocalTime end;
+    /** Orders slots by their packed start minute without touching LocalTime. */
+    public static final Comparator<TimeSlot> BY_START = (a, b) -> Integer.compare(a.startMinute, b.startMinute);
 
-    /** Validates and stores the temporal window for a meeting. */
+    private final short startMinute;
+    private final short endMinute;
+
+    /**
+     * Validates and stores the temporal window for a meeting as minutes after midnight. Both times
+     * must fall on a whole minute; readers round cell values before building slots.
+     */
     public TimeSlot(LocalTime start, LocalTime end) {
         if (start == null || end == null) {
             throw new IllegalArgumentException("Start and end time are required");
         }
+        if (start.getSecond() != 0 || start.getNano() != 0 || end.getSecond() != 0 || end.getNano() != 0) {
+            throw new IllegalArgumentException("Start and end time must fall on whole minutes");
+        }
         if (!start.isBefore(end)) {
             throw new IllegalArgumentException("End time must be after start time");
         }
-        this.start = start;
-        this.end = end;
+        this.startMinute = (short) minuteOfDay(start);
+        this.endMinute = (short) minuteOfDay(end);
     }
 
     /** Returns the inclusive start time of the slot. */
     public LocalTime getStart() {
-        return start;
+        return LocalTime.of(startMinute / 60, startMinute % 60);
     }
 
     /** Returns the exclusive end time of the slot. */
     public LocalTime getEnd() {
-        return end;
+        return LocalTime.of(endMinute / 60, endMinute % 60);
+    }
+
+    /** Packs a time into minutes after midnight, dropping seconds. */
+    public static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /** Returns the start as minutes after midnight. */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /** Returns the end as minutes after midnight. */
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /** Returns the length of the slot in minutes without allocating. */
+    public int getDurationMinutes() {
+        return endMinute - startMinute;
     }
 
     /** Calculates the total length of the session in minutes/hours. */
     public Duration getDuration() {
-        return Duration.between(start, end);
+        return Duration.ofMinutes(getDurationMinutes());
     }
 
     /** Checks whether two time slots collide on the schedule. */
@@ -39,12 +69,12 @@ public class TimeSlot {
         if (other == null) {
             throw new IllegalArgumentException("Other timeslot is required");
         }
-        return start.isBefore(other.end) && other.start.isBefore(end);
+        return startMinute < other.endMinute && other.startMinute < endMinute;
     }
 
     @Override
     /** Formats the slot for logs or debugging. */
     public String toString() {
-        return start + " - " + end;
+        return getStart() + " - " + getEnd();
     }
 }
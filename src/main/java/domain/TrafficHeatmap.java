@@ -0,0 +1,107 @@
+package domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Students walking each building-to-building leg, per day and per time bucket of the day. Counts
+ * are stored day and bucket major, so replaying one bucket reads a contiguous slice and never
+ * recomputes anything.
+ */
+public class TrafficHeatmap {
+    private static final int DAY_COUNT = DayOfWeek.values().length;
+
+    private final List<RouteSegment> edges;
+    private final int firstMinute;
+    private final int bucketMinutes;
+    private final int bucketCount;
+    private final int[] counts;
+    private final int maxCount;
+
+    /**
+     * Wraps precomputed counts laid out as [(day * bucketCount + bucket) * edges + edge]; each
+     * edge is undirected and drawn along its segment's path.
+     */
+    public TrafficHeatmap(List<RouteSegment> edges, int firstMinute, int bucketMinutes, int bucketCount, int[] counts) {
+        if (edges == null || counts == null) {
+            throw new IllegalArgumentException("Heatmap edges and counts are required");
+        }
+        if (bucketMinutes <= 0 || bucketCount < 0) {
+            throw new IllegalArgumentException("Bucket layout must be positive");
+        }
+        if (counts.length != DAY_COUNT * bucketCount * edges.size()) {
+            throw new IllegalArgumentException("Counts do not match the edge and bucket layout");
+        }
+        this.edges = new ArrayList<>(edges);
+        this.firstMinute = firstMinute;
+        this.bucketMinutes = bucketMinutes;
+        this.bucketCount = bucketCount;
+        this.counts = counts.clone();
+        int max = 0;
+        for (int count : counts) {
+            max = Math.max(max, count);
+        }
+        this.maxCount = max;
+    }
+
+    /** Lists the legs that carry any traffic, in edge-index order. */
+    public List<RouteSegment> getEdges() {
+        return Collections.unmodifiableList(edges);
+    }
+
+    /** Returns the number of time buckets in a day. */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /** Returns the width of each bucket in minutes. */
+    public int getBucketMinutes() {
+        return bucketMinutes;
+    }
+
+    /** Returns the time at which the bucket begins. */
+    public LocalTime getBucketStart(int bucket) {
+        checkBucket(bucket);
+        return LocalTime.ofSecondOfDay((long) Math.min(firstMinute + bucket * bucketMinutes, 24 * 60 - 1) * 60);
+    }
+
+    /** Returns the bucket containing the minute of day, clamped to the covered range. */
+    public int bucketOf(int minuteOfDay) {
+        if (bucketCount == 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(bucketCount - 1, (minuteOfDay - firstMinute) / bucketMinutes));
+    }
+
+    /** Returns how many students walk the edge on the day during the bucket. */
+    public int getCount(DayOfWeek day, int bucket, int edge) {
+        checkBucket(bucket);
+        return counts[(day.ordinal() * bucketCount + bucket) * edges.size() + edge];
+    }
+
+    /** Returns how many transfers happen on the day during the bucket across all edges. */
+    public int getTotal(DayOfWeek day, int bucket) {
+        checkBucket(bucket);
+        int start = (day.ordinal() * bucketCount + bucket) * edges.size();
+        int total = 0;
+        for (int edge = 0; edge < edges.size(); edge++) {
+            total += counts[start + edge];
+        }
+        return total;
+    }
+
+    /** Returns the largest count of any edge in any bucket, so every slice shares one color scale. */
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    /** Rejects bucket indexes outside the day. */
+    private void checkBucket(int bucket) {
+        if (bucket < 0 || bucket >= bucketCount) {
+            throw new IllegalArgumentException("Bucket out of range: " + bucket);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package domain;
+
+public class Transfer {
+    private final ItineraryEntry from;
+    private final ItineraryEntry to;
+    private final RouteSegment segment;
+    private final int walkMinutes;
+    private final int gapMinutes;
+    private final TransferStatus status;
+
+    /** Annotates the leg between two consecutive sessions with its walk time and the break available for it. */
+    public Transfer(ItineraryEntry from, ItineraryEntry to, RouteSegment segment, int walkMinutes, int gapMinutes, TransferStatus status) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Transfer endpoints are required");
+        }
+        if (segment == null) {
+            throw new IllegalArgumentException("Route segment is required");
+        }
+        if (walkMinutes < 0) {
+            throw new IllegalArgumentException("Walk time cannot be negative");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Transfer status is required");
+        }
+        this.from = from;
+        this.to = to;
+        this.segment = segment;
+        this.walkMinutes = walkMinutes;
+        this.gapMinutes = gapMinutes;
+        this.status = status;
+    }
+
+    /** Returns the session the student leaves. */
+    public ItineraryEntry getFrom() {
+        return from;
+    }
+
+    /** Returns the session the student walks to. */
+    public ItineraryEntry getTo() {
+        return to;
+    }
+
+    /** Returns the leg walked between the two sessions. */
+    public RouteSegment getSegment() {
+        return segment;
+    }
+
+    /** Returns the walk time in whole minutes, rounded up. */
+    public int getWalkMinutes() {
+        return walkMinutes;
+    }
+
+    /** Returns the minutes between the end of one session and the start of the next; negative when they overlap. */
+    public int getGapMinutes() {
+        return gapMinutes;
+    }
+
+    /** Returns the spare minutes left after walking; negative when the walk does not fit. */
+    public int getSlackMinutes() {
+        return gapMinutes - walkMinutes;
+    }
+
+    /** Returns whether the transfer is comfortable, tight or infeasible. */
+    public TransferStatus getStatus() {
+        return status;
+    }
+
+    /** Indicates whether the transfer is tight or infeasible. */
+    public boolean isFlagged() {
+        return status != TransferStatus.OK;
+    }
+}
@@ -0,0 +1,45 @@
+package domain;
+
+public class TransferPolicy {
+    /** Typical walking pace of about 4.8 km/h, flagging transfers with under five minutes to spare. */
+    public static final TransferPolicy DEFAULT = new TransferPolicy(80.0, 5);
+
+    private final double metersPerMinute;
+    private final int tightMarginMinutes;
+
+    /** Defines the walking pace and the spare time below which a feasible transfer counts as tight. */
+    public TransferPolicy(double metersPerMinute, int tightMarginMinutes) {
+        if (!(metersPerMinute > 0) || Double.isInfinite(metersPerMinute)) {
+            throw new IllegalArgumentException("Walking pace must be positive");
+        }
+        if (tightMarginMinutes < 0) {
+            throw new IllegalArgumentException("Tight margin cannot be negative");
+        }
+        this.metersPerMinute = metersPerMinute;
+        this.tightMarginMinutes = tightMarginMinutes;
+    }
+
+    /** Returns the walking pace in meters per minute. */
+    public double getMetersPerMinute() {
+        return metersPerMinute;
+    }
+
+    /** Returns the spare minutes below which a transfer is tight. */
+    public int getTightMarginMinutes() {
+        return tightMarginMinutes;
+    }
+
+    /** Converts a walking distance to whole minutes at this pace, rounding up. */
+    public int walkMinutes(double distanceMeters) {
+        return (int) Math.ceil(distanceMeters / metersPerMinute);
+    }
+
+    /** Classifies a transfer from its walk time and the break between the two sessions. */
+    public TransferStatus classify(int walkMinutes, int gapMinutes) {
+        int slack = gapMinutes - walkMinutes;
+        if (slack < 0) {
+            return TransferStatus.INFEASIBLE;
+        }
+        return slack < tightMarginMinutes ? TransferStatus.TIGHT : TransferStatus.OK;
+    }
+}
@@ -0,0 +1,7 @@
+package domain;
+
+public enum TransferStatus {
+    OK,
+    TIGHT,
+    INFEASIBLE
+}
@@ -0,0 +1,49 @@
+package domain;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class WeeklyRouteVisualization {
+    private final Map<DayOfWeek, RouteVisualizationModel> models;
+    private final double totalDistanceMeters;
+    private final List<String> summaryLines;
+
+    /** Bundles the per-day visualizations of one schedule with the weekly totals. */
+    public WeeklyRouteVisualization(Map<DayOfWeek, RouteVisualizationModel> models, List<String> summaryLines) {
+        if (models == null || summaryLines == null) {
+            throw new IllegalArgumentException("Visualization components cannot be null");
+        }
+        this.models = models.isEmpty() ? new EnumMap<>(DayOfWeek.class) : new EnumMap<>(models);
+        double total = 0.0;
+        for (RouteVisualizationModel model : this.models.values()) {
+            total += model.getRoutePath().getTotalDistanceMeters();
+        }
+        this.totalDistanceMeters = total;
+        this.summaryLines = new ArrayList<>(summaryLines);
+    }
+
+    /** Returns the precomputed visualization of the day, or null when nothing meets that day. */
+    public RouteVisualizationModel getModel(DayOfWeek day) {
+        return models.get(day);
+    }
+
+    /** Lists the days that have at least one session, in week order. */
+    public Set<DayOfWeek> getDays() {
+        return Collections.unmodifiableSet(models.keySet());
+    }
+
+    /** Returns the walking distance summed over every day. */
+    public double getTotalDistanceMeters() {
+        return totalDistanceMeters;
+    }
+
+    /** Returns the weekly summary lines, one per active day plus the total. */
+    public List<String> getSummaryLines() {
+        return Collections.unmodifiableList(summaryLines);
+    }
+}
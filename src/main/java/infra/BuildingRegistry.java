@@ -3,13 +3,24 @@ package infra;
 import domain.Building;
 import domain.CampusCoordinate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BuildingRegistry {
+    private static final int INITIAL_MATRIX_STRIDE = 64;
+
     private final Map<String, Building> buildings = new LinkedHashMap<>();
+    private final Map<String, Integer> idsByCode = new ConcurrentHashMap<>();
+    private final List<Building> buildingsById = new ArrayList<>();
+    private volatile DistanceMatrix matrix = new DistanceMatrix(new Building[0], new double[0], 0, 0, 0);
+    private volatile BuildingSpatialIndex spatialIndex;
 
     /** Returns an existing building by code or creates a placeholder at the center. */
     public Building getOrCreate(String code) {
@@ -17,7 +28,7 @@ public class BuildingRegistry {
     }
 
     /** Ensures a single Building instance per code, creating one when needed. */
-    public Building getOrCreate(String code, String name, CampusCoordinate location) {
+    public synchronized Building getOrCreate(String code, String name, CampusCoordinate location) {
         if (code == null || code.isBlank()) {
             throw new IllegalArgumentException("Building code is required");
         }
@@ -32,24 +43,153 @@ public class BuildingRegistry {
         CampusCoordinate resolved = location != null ? location : new CampusCoordinate(0.5, 0.5);
         Building building = new Building(normalized, name == null || name.isBlank() ? normalized : name.trim(), resolved);
         buildings.put(normalized, building);
+        assignId(building);
         return building;
     }
 
-    /** Registers a fully populated building, overwriting any placeholder. */
-    public void register(Building building) {
+    /** Registers a fully populated building, overwriting any placeholder while keeping its id. */
+    public synchronized void register(Building building) {
         buildings.put(building.getCode(), building);
+        assignId(building);
     }
 
     /** Returns a building by code without creating a fallback. */
-    public Building get(String code) {
+    public synchronized Building get(String code) {
         if (code == null) {
             return null;
         }
         return buildings.get(code.trim());
     }
 
-    /** Exposes every registered building as an immutable collection. */
+    /** Exposes every building of the published registry state, in id order, as an immutable collection. */
     public Collection<Building> getAll() {
-        return Collections.unmodifiableCollection(buildings.values());
+        DistanceMatrix current = matrix;
+        return Collections.unmodifiableList(Arrays.asList(current.buildings).subList(0, current.count));
+    }
+
+    /** Returns the number of dense ids handed out so far; ids run from 0 to size() - 1. */
+    public synchronized int size() {
+        return buildingsById.size();
+    }
+
+    /** Returns the dense id of the code, or -1 when no building with that code is registered. */
+    public int idOf(String code) {
+        if (code == null) {
+            return -1;
+        }
+        Integer id = idsByCode.get(code.trim());
+        return id == null ? -1 : id;
+    }
+
+    /** Returns the dense id of this exact building instance, or -1 when the registry holds a different one. */
+    public int idOf(Building building) {
+        if (building == null) {
+            return -1;
+        }
+        Integer id = idsByCode.get(building.getCode());
+        if (id == null) {
+            return -1;
+        }
+        DistanceMatrix current = matrix;
+        return id < current.count && current.buildings[id] == building ? id : -1;
+    }
+
+    /** Returns the building currently registered under the dense id. */
+    public Building getById(int id) {
+        DistanceMatrix current = matrix;
+        return current.buildings[Objects.checkIndex(id, current.count)];
+    }
+
+    /** Returns a counter that changes whenever a building is added or its coordinates are replaced. */
+    public long getVersion() {
+        return matrix.version;
+    }
+
+    /**
+     * Returns a spatial index over every registered building, rebuilding it on first use after the
+     * registry changed so bulk registration pays for one rebuild rather than one per building.
+     */
+    public BuildingSpatialIndex getSpatialIndex() {
+        BuildingSpatialIndex current = spatialIndex;
+        if (current != null && current.getVersion() == matrix.version) {
+            return current;
+        }
+        synchronized (this) {
+            DistanceMatrix published = matrix;
+            current = spatialIndex;
+            if (current == null || current.getVersion() != published.version) {
+                current = new BuildingSpatialIndex(Arrays.copyOf(published.buildings, published.count), published.version);
+                spatialIndex = current;
+            }
+            return current;
+        }
+    }
+
+    /** Returns the straight-line distance between two ids in normalized map units with one array read. */
+    public double unitDistance(int fromId, int toId) {
+        DistanceMatrix current = matrix;
+        return current.values[fromId * current.stride + toId];
+    }
+
+    /** Hands out the next id for a new code, or reuses the id of the placeholder being replaced. */
+    private void assignId(Building building) {
+        Integer existing = idsByCode.get(building.getCode());
+        int id;
+        if (existing == null) {
+            id = buildingsById.size();
+            buildingsById.add(building);
+        } else {
+            id = existing;
+            buildingsById.set(id, building);
+        }
+        publishMatrix(id);
+        idsByCode.put(building.getCode(), id);
+    }
+
+    /**
+     * Fills the row and column of one id and republishes the matrix with the id table and the next
+     * version in a single volatile write. A new id is written in place into spare capacity that no
+     * published state covers yet, so adding a building costs one row and column; only growth past the
+     * stride, which doubles, or replacing the coordinates of an id already published copies the
+     * arrays. Cells a published state covers are never written again, so lock-free readers and caches
+     * keyed by the version always see distances from one registry state.
+     */
+    private void publishMatrix(int id) {
+        DistanceMatrix current = matrix;
+        int count = buildingsById.size();
+        int stride = current.stride;
+        double[] values = current.values;
+        Building[] byId = current.buildings;
+        if (count > stride) {
+            stride = Math.max(INITIAL_MATRIX_STRIDE, stride * 2);
+            while (stride < count) {
+                stride *= 2;
+            }
+            values = new double[stride * stride];
+            for (int row = 0; row < current.count; row++) {
+                System.arraycopy(current.values, row * current.stride, values, row * stride, current.count);
+            }
+            byId = Arrays.copyOf(current.buildings, stride);
+        } else if (id < current.count) {
+            values = current.values.clone();
+            byId = current.buildings.clone();
+        }
+        Building building = buildingsById.get(id);
+        byId[id] = building;
+        CampusCoordinate location = building.getLocation();
+        for (int other = 0; other < count; other++) {
+            CampusCoordinate otherLocation = buildingsById.get(other).getLocation();
+            double distance = Math.hypot(otherLocation.getX() - location.getX(), otherLocation.getY() - location.getY());
+            values[id * stride + other] = distance;
+            values[other * stride + id] = distance;
+        }
+        matrix = new DistanceMatrix(byId, values, stride, count, current.version + 1);
+    }
+
+    /**
+     * Buildings by id plus their square distance matrix, stored row-major in a flat array with spare
+     * capacity, the number of ids this state covers, and the registry version they belong to.
+     */
+    private record DistanceMatrix(Building[] buildings, double[] values, int stride, int count, long version) {
     }
 }
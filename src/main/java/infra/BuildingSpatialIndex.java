@@ -0,0 +1,174 @@
+package infra;
+
+import domain.Building;
+import domain.CampusCoordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable uniform grid over the buildings' normalized map coordinates. Buildings are bucketed
+ * into square cells stored as compressed arrays, so point queries only visit the cells around
+ * the point and nearest-neighbour searches stop as soon as no unvisited ring can hold anything
+ * closer. A snapshot is tied to the registry version it was built from.
+ */
+public final class BuildingSpatialIndex {
+    private static final double BUILDINGS_PER_CELL = 2.0;
+
+    private final Building[] buildings;
+    private final long version;
+    private final double[] xs;
+    private final double[] ys;
+    private final int cellsPerSide;
+    private final double cellSize;
+    private final int[] cellStarts;
+    private final int[] cellItems;
+
+    /** Buckets the buildings, indexed by their dense ids, into a grid sized for about two per cell. */
+    BuildingSpatialIndex(Building[] buildings, long version) {
+        this.buildings = buildings.clone();
+        this.version = version;
+        int count = this.buildings.length;
+        xs = new double[count];
+        ys = new double[count];
+        cellsPerSide = Math.max(1, (int) Math.ceil(Math.sqrt(count / BUILDINGS_PER_CELL)));
+        cellSize = 1.0 / cellsPerSide;
+        cellStarts = new int[cellsPerSide * cellsPerSide + 1];
+        int[] cells = new int[count];
+        for (int id = 0; id < count; id++) {
+            CampusCoordinate location = this.buildings[id].getLocation();
+            xs[id] = location.getX();
+            ys[id] = location.getY();
+            cells[id] = cellOf(ys[id]) * cellsPerSide + cellOf(xs[id]);
+            cellStarts[cells[id] + 1]++;
+        }
+        for (int cell = 0; cell < cellsPerSide * cellsPerSide; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+        cellItems = new int[count];
+        int[] fill = new int[cellsPerSide * cellsPerSide];
+        for (int id = 0; id < count; id++) {
+            cellItems[cellStarts[cells[id]] + fill[cells[id]]++] = id;
+        }
+    }
+
+    /** Returns the registry version this snapshot reflects. */
+    public long getVersion() {
+        return version;
+    }
+
+    /** Returns the number of indexed buildings. */
+    public int size() {
+        return buildings.length;
+    }
+
+    /** Returns up to k buildings closest to the point, nearest first. */
+    public List<Building> nearest(CampusCoordinate point, int k) {
+        if (point == null) {
+            throw new IllegalArgumentException("Point is required");
+        }
+        return nearest(point.getX(), point.getY(), k);
+    }
+
+    /** Returns up to k buildings closest to the normalized point, nearest first; the point may lie off the map. */
+    public List<Building> nearest(double x, double y, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Neighbour count must be positive");
+        }
+        int wanted = Math.min(k, buildings.length);
+        int[] best = new int[wanted];
+        double[] bestDistances = new double[wanted];
+        int found = 0;
+        int cx = cellOf(x);
+        int cy = cellOf(y);
+        for (int ring = 0; ring <= cellsPerSide && wanted > 0; ring++) {
+            if (found == wanted) {
+                double reach = ringDistance(x, y, cx, cy, ring);
+                if (reach * reach > bestDistances[found - 1]) {
+                    break;
+                }
+            }
+            for (int row = cy - ring; row <= cy + ring; row++) {
+                if (row < 0 || row >= cellsPerSide) {
+                    continue;
+                }
+                boolean edgeRow = row == cy - ring || row == cy + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int col = cx - ring; col <= cx + ring; col += step) {
+                    if (col < 0 || col >= cellsPerSide) {
+                        continue;
+                    }
+                    int cell = row * cellsPerSide + col;
+                    for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                        int id = cellItems[i];
+                        double distance = squaredDistance(id, x, y);
+                        if (found < wanted || distance < bestDistances[found - 1]) {
+                            int position = found < wanted ? found++ : found - 1;
+                            while (position > 0 && bestDistances[position - 1] > distance) {
+                                best[position] = best[position - 1];
+                                bestDistances[position] = bestDistances[position - 1];
+                                position--;
+                            }
+                            best[position] = id;
+                            bestDistances[position] = distance;
+                        }
+                    }
+                }
+            }
+        }
+        List<Building> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(buildings[best[i]]);
+        }
+        return result;
+    }
+
+    /** Returns every building within the radius of the normalized point, nearest first. */
+    public List<Building> within(double x, double y, double radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Radius cannot be negative");
+        }
+        List<Integer> hits = new ArrayList<>();
+        double limit = radius * radius;
+        for (int row = cellOf(y - radius); row <= cellOf(y + radius); row++) {
+            for (int col = cellOf(x - radius); col <= cellOf(x + radius); col++) {
+                int cell = row * cellsPerSide + col;
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    if (squaredDistance(cellItems[i], x, y) <= limit) {
+                        hits.add(cellItems[i]);
+                    }
+                }
+            }
+        }
+        hits.sort((a, b) -> Double.compare(squaredDistance(a, x, y), squaredDistance(b, x, y)));
+        List<Building> result = new ArrayList<>(hits.size());
+        for (int id : hits) {
+            result.add(buildings[id]);
+        }
+        return result;
+    }
+
+    /** Returns the grid column or row holding the coordinate, clamped to the grid. */
+    private int cellOf(double coordinate) {
+        return Math.max(0, Math.min(cellsPerSide - 1, (int) (coordinate * cellsPerSide)));
+    }
+
+    /** Returns a lower bound on the distance from the point to any cell of the ring around its cell. */
+    private double ringDistance(double x, double y, int cx, int cy, int ring) {
+        if (ring == 0) {
+            return 0.0;
+        }
+        double left = x - (cx - ring + 1) * cellSize;
+        double right = (cx + ring) * cellSize - x;
+        double top = y - (cy - ring + 1) * cellSize;
+        double bottom = (cy + ring) * cellSize - y;
+        return Math.max(0.0, Math.min(Math.min(left, right), Math.min(top, bottom)));
+    }
+
+    /** Returns the squared distance from the building to the point. */
+    private double squaredDistance(int id, double x, double y) {
+        double dx = xs[id] - x;
+        double dy = ys[id] - y;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,158 @@
+package infra;
+
+import domain.CampusCoordinate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable campus walkway network: junction and entrance nodes at normalized map coordinates,
+ * joined by undirected edges weighted by their straight-line length in normalized units.
+ * Adjacency is stored in compressed arrays so path searches stay on primitives.
+ */
+public final class WalkwayGraph {
+    private final CampusCoordinate[] locations;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final double[] edgeWeights;
+    private final Map<String, int[]> entrancesByBuilding;
+
+    /** Builds the compressed adjacency from node locations and undirected edge pairs. */
+    WalkwayGraph(List<CampusCoordinate> locations, List<int[]> edges, Map<String, List<Integer>> entrances) {
+        this.locations = locations.toArray(new CampusCoordinate[0]);
+        int[] degree = new int[this.locations.length];
+        for (int[] edge : edges) {
+            degree[edge[0]]++;
+            degree[edge[1]]++;
+        }
+        edgeOffsets = new int[this.locations.length + 1];
+        for (int node = 0; node < this.locations.length; node++) {
+            edgeOffsets[node + 1] = edgeOffsets[node] + degree[node];
+        }
+        edgeTargets = new int[edgeOffsets[this.locations.length]];
+        edgeWeights = new double[edgeTargets.length];
+        int[] fill = new int[this.locations.length];
+        for (int[] edge : edges) {
+            double weight = distance(this.locations[edge[0]], this.locations[edge[1]]);
+            addHalfEdge(edge[0], edge[1], weight, fill);
+            addHalfEdge(edge[1], edge[0], weight, fill);
+        }
+        entrancesByBuilding = new HashMap<>();
+        entrances.forEach((code, nodes) -> entrancesByBuilding.put(code,
+                nodes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Reads walkways.csv from the classpath, normalizing pixel coordinates against the map size.
+     * Rows are "node,id,x,y[,buildingCode]" (a building code marks a building entrance) and
+     * "edge,idA,idB". Returns null when the resource is absent so routing can fall back to straight lines.
+     */
+    public static WalkwayGraph load(double mapWidth, double mapHeight) {
+        if (mapWidth <= 0 || mapHeight <= 0) {
+            throw new IllegalArgumentException("Map dimensions must be positive");
+        }
+        InputStream stream = WalkwayGraph.class.getResourceAsStream("/walkways.csv");
+        if (stream == null) {
+            return null;
+        }
+        List<CampusCoordinate> locations = new ArrayList<>();
+        Map<String, Integer> nodeIds = new HashMap<>();
+        List<String[]> edgeRows = new ArrayList<>();
+        Map<String, List<Integer>> entrances = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                String kind = parts[0].trim();
+                if (kind.equals("node") && parts.length >= 4) {
+                    double x = Math.max(0, Math.min(1, Double.parseDouble(parts[2].trim()) / mapWidth));
+                    double y = Math.max(0, Math.min(1, Double.parseDouble(parts[3].trim()) / mapHeight));
+                    int id = locations.size();
+                    locations.add(new CampusCoordinate(x, y));
+                    nodeIds.put(parts[1].trim(), id);
+                    if (parts.length >= 5 && !parts[4].isBlank()) {
+                        entrances.computeIfAbsent(parts[4].trim(), key -> new ArrayList<>()).add(id);
+                    }
+                } else if (kind.equals("edge") && parts.length >= 3) {
+                    edgeRows.add(parts);
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to load walkway graph", ex);
+        }
+        List<int[]> edges = new ArrayList<>(edgeRows.size());
+        for (String[] parts : edgeRows) {
+            Integer from = nodeIds.get(parts[1].trim());
+            Integer to = nodeIds.get(parts[2].trim());
+            if (from == null || to == null) {
+                throw new IllegalStateException("Walkway edge references unknown node: " + String.join(",", parts));
+            }
+            edges.add(new int[]{from, to});
+        }
+        return new WalkwayGraph(locations, edges, entrances);
+    }
+
+    /** Returns the number of nodes. */
+    public int nodeCount() {
+        return locations.length;
+    }
+
+    /** Returns the normalized location of a node. */
+    public CampusCoordinate locationOf(int node) {
+        return locations[node];
+    }
+
+    /** Returns the index of the node's first outgoing half-edge. */
+    public int firstEdge(int node) {
+        return edgeOffsets[node];
+    }
+
+    /** Returns one past the index of the node's last outgoing half-edge. */
+    public int endEdge(int node) {
+        return edgeOffsets[node + 1];
+    }
+
+    /** Returns the node a half-edge leads to. */
+    public int edgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    /** Returns the length of a half-edge in normalized units. */
+    public double edgeWeight(int edge) {
+        return edgeWeights[edge];
+    }
+
+    /** Returns the entrance nodes of a building, or an empty array when it is not on the network. */
+    public int[] entrancesOf(String buildingCode) {
+        int[] nodes = buildingCode == null ? null : entrancesByBuilding.get(buildingCode.trim());
+        return nodes == null ? new int[0] : nodes.clone();
+    }
+
+    /** Lists the codes of buildings that have at least one entrance node. */
+    public List<String> buildingCodes() {
+        return Collections.unmodifiableList(new ArrayList<>(entrancesByBuilding.keySet()));
+    }
+
+    /** Returns the straight-line distance between two coordinates in normalized units. */
+    static double distance(CampusCoordinate a, CampusCoordinate b) {
+        return Math.hypot(a.getX() - b.getX(), a.getY() - b.getY());
+    }
+
+    /** Stores one direction of an edge in the compressed arrays. */
+    private void addHalfEdge(int from, int to, double weight, int[] fill) {
+        int slot = edgeOffsets[from] + fill[from]++;
+        edgeTargets[slot] = to;
+        edgeWeights[slot] = weight;
+    }
+}
@@ -0,0 +1,131 @@
+package service;
+
+import domain.Building;
+import domain.CourseOffering;
+import domain.DailyItinerary;
+import domain.RoutePath;
+
+import java.time.DayOfWeek;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates many students' weekly routes on a fixed pool of worker threads. The input stream is
+ * pulled only as fast as workers free up, so at most a fixed number of students are in flight
+ * and memory stays bounded regardless of how many students the stream yields.
+ */
+final class BatchRouteEvaluator {
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final ScheduleService scheduleService;
+    private final RoutePlanningService routePlanningService;
+    private final int parallelism;
+
+    /** Binds the services used to resolve CRNs and plan each day's route. */
+    BatchRouteEvaluator(ScheduleService scheduleService, RoutePlanningService routePlanningService, int parallelism) {
+        if (routePlanningService == null) {
+            throw new IllegalArgumentException("Route planning service is required");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.scheduleService = scheduleService;
+        this.routePlanningService = routePlanningService;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Streams one result per student to the sink as soon as it is ready, in completion order.
+     * The sink is called by one worker at a time. The first failure stops the batch and is rethrown.
+     */
+    long run(Stream<StudentSchedule> students, Consumer<StudentRouteResult> sink) {
+        if (students == null) {
+            throw new IllegalArgumentException("Student stream is required");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Result sink is required");
+        }
+        int maxInFlight = parallelism * IN_FLIGHT_PER_THREAD;
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicLong completed = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Object sinkLock = new Object();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "route-batch-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Iterator<StudentSchedule> iterator = students.iterator();
+            while (failure.get() == null && iterator.hasNext()) {
+                StudentSchedule student = iterator.next();
+                permits.acquire();
+                workers.execute(() -> {
+                    try {
+                        StudentRouteResult result = evaluate(student);
+                        synchronized (sinkLock) {
+                            sink.accept(result);
+                        }
+                        completed.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failure.compareAndSet(null, ex);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            permits.acquire(maxInFlight);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Route batch was interrupted", ex);
+        } finally {
+            workers.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return completed.get();
+    }
+
+    /** Resolves one student's CRNs and measures the route of every day the student has classes. */
+    StudentRouteResult evaluate(StudentSchedule student) {
+        List<String> crns = student.getCrns().stream()
+                .filter(crn -> crn != null && !crn.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        List<CourseOffering> offerings = scheduleService.getOfferingsByCrns(crns);
+        double[] distances = new double[DAYS.length];
+        int[] buildingCounts = new int[DAYS.length];
+        int[] offeringCounts = new int[DAYS.length];
+        for (DayOfWeek day : DAYS) {
+            int meeting = 0;
+            for (CourseOffering offering : offerings) {
+                if (offering.meetsOn(day)) {
+                    meeting++;
+                }
+            }
+            if (meeting == 0) {
+                continue;
+            }
+            DailyItinerary itinerary = scheduleService.getDailyItineraryFromOfferings(offerings, day);
+            RoutePath path = routePlanningService.planRoute(itinerary);
+            Set<Building> buildings = new HashSet<>(path.getOrderedBuildings());
+            distances[day.ordinal()] = path.getTotalDistanceMeters();
+            buildingCounts[day.ordinal()] = buildings.size();
+            offeringCounts[day.ordinal()] = meeting;
+        }
+        return new StudentRouteResult(student.getStudentId(), crns.size() - offerings.size(),
+                distances, buildingCounts, offeringCounts);
+    }
+}
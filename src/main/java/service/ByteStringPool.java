@@ -0,0 +1,73 @@
+package service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Open-addressing table that maps UTF-8 byte sequences to canonical Strings, so repeated cell
+ * values such as course codes, buildings and day tokens are decoded only the first time they occur.
+ */
+final class ByteStringPool {
+    private byte[][] keys = new byte[256][];
+    private String[] values = new String[256];
+    private int[] hashes = new int[256];
+    private int size;
+
+    /** Returns the trimmed String for bytes[0..length), or null when it is blank. */
+    String intern(byte[] bytes, int length) {
+        int from = 0;
+        int to = length;
+        while (from < to && (bytes[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (bytes[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return null;
+        }
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && Arrays.equals(keys[slot], 0, keys[slot].length, bytes, from, to)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        String value = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        keys[slot] = Arrays.copyOfRange(bytes, from, to);
+        values[slot] = value;
+        hashes[slot] = hash;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return value;
+    }
+
+    /** Doubles the table and reinserts every entry. */
+    private void grow() {
+        byte[][] oldKeys = keys;
+        String[] oldValues = values;
+        int[] oldHashes = hashes;
+        keys = new byte[oldKeys.length * 2][];
+        values = new String[oldKeys.length * 2];
+        hashes = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            hashes[slot] = oldHashes[i];
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sidecar file mapping each CRN to the byte offset of its record inside the schedule snapshot.
+ * Entries are sorted by CRN bytes and searched in place on the mapped file, so a lookup costs
+ * O(log n) reads without loading the index into the heap.
+ */
+final class CrnIndex {
+    private static final int MAGIC = 0x43524E49; // "CRNI"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".crnindex";
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+
+    private final ByteBuffer buffer;
+    private final int count;
+
+    private CrnIndex(ByteBuffer buffer, int count) {
+        this.buffer = buffer;
+        this.count = count;
+    }
+
+    /** Returns the sidecar path used for the index of the given workbook. */
+    static Path pathFor(Path workbook) {
+        return workbook.resolveSibling(workbook.getFileName() + SUFFIX);
+    }
+
+    /** Maps the index when it was built from the current snapshot, otherwise returns null. */
+    static CrnIndex openIfFresh(Path workbook) {
+        Path index = pathFor(workbook);
+        Path snapshot = TermScheduleSnapshot.pathFor(workbook);
+        if (!Files.isRegularFile(index) || !Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            if (buffer.getLong() != Files.size(snapshot)
+                    || buffer.getLong() != Files.getLastModifiedTime(snapshot).toMillis()) {
+                return null;
+            }
+            return new CrnIndex(buffer, buffer.getInt());
+        } catch (IOException | BufferUnderflowException ex) {
+            return null;
+        }
+    }
+
+    /** Writes the index for the workbook's current snapshot atomically. */
+    static void write(Path workbook, Map<String, Integer> offsets) throws IOException {
+        Path index = pathFor(workbook);
+        Path snapshot = TermScheduleSnapshot.pathFor(workbook);
+        List<byte[]> keys = new ArrayList<>(offsets.size());
+        List<Integer> values = new ArrayList<>(offsets.size());
+        offsets.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()))
+                .sorted((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()))
+                .forEach(entry -> {
+                    keys.add(entry.getKey());
+                    values.add(entry.getValue());
+                });
+
+        Path temp = index.resolveSibling(index.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(Files.size(snapshot));
+                out.writeLong(Files.getLastModifiedTime(snapshot).toMillis());
+                out.writeInt(keys.size());
+                int position = HEADER_BYTES + keys.size() * Integer.BYTES;
+                for (byte[] key : keys) {
+                    out.writeInt(position);
+                    position += Short.BYTES + key.length + Integer.BYTES;
+                }
+                for (int i = 0; i < keys.size(); i++) {
+                    out.writeShort(keys.get(i).length);
+                    out.write(keys.get(i));
+                    out.writeInt(values.get(i));
+                }
+            }
+            TermScheduleSnapshot.moveIntoPlace(temp, index);
+        } catch (IOException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    /** Returns the snapshot offset of the CRN's offering, or -1 when the CRN is not indexed. */
+    int offsetOf(String crn) {
+        byte[] key = crn.trim().getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = buffer.getInt(HEADER_BYTES + middle * Integer.BYTES);
+            int length = buffer.getShort(entry);
+            int cmp = compare(entry + Short.BYTES, length, key);
+            if (cmp == 0) {
+                return buffer.getInt(entry + Short.BYTES + length);
+            }
+            if (cmp < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -1;
+    }
+
+    /** Compares stored key bytes against the probe as unsigned bytes. */
+    private int compare(int position, int length, byte[] key) {
+        int shared = Math.min(length, key.length);
+        for (int i = 0; i < shared; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(position + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+}
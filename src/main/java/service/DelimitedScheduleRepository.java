@@ -0,0 +1,179 @@
+package service;
+
+import domain.CourseOffering;
+import domain.TermSchedule;
+import infra.BuildingRegistry;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+
+public class DelimitedScheduleRepository implements ScheduleRepository {
+    private final Path filePath;
+    private final BuildingRegistry buildingRegistry;
+    private final byte delimiter;
+    private volatile TermSchedule cache;
+    private volatile IngestionMetrics lastMetrics;
+
+    /** Convenience constructor that accepts a string file path. */
+    public DelimitedScheduleRepository(String filePath, BuildingRegistry buildingRegistry) {
+        this(Path.of(Objects.requireNonNull(filePath, "filePath")), buildingRegistry);
+    }
+
+    /** Reads a file in the Excel column layout, tab separated for .tsv/.txt and comma separated otherwise. */
+    public DelimitedScheduleRepository(Path filePath, BuildingRegistry buildingRegistry) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("File path is required");
+        }
+        if (buildingRegistry == null) {
+            throw new IllegalArgumentException("Building registry is required");
+        }
+        String name = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        this.filePath = filePath;
+        this.buildingRegistry = buildingRegistry;
+        this.delimiter = (byte) (name.endsWith(".tsv") || name.endsWith(".txt") ? '\t' : ',');
+    }
+
+    /** Reports whether the file extension denotes a delimited export this repository can read. */
+    public static boolean supports(Path filePath) {
+        String name = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".tsv") || name.endsWith(".txt");
+    }
+
+    @Override
+    /** Returns the cached term schedule or loads it from disk on first access. */
+    public TermSchedule getTermSchedule() {
+        return getTermSchedule(new LoadProgress());
+    }
+
+    @Override
+    /** Returns the cached term schedule or loads it from disk, reporting rows to the progress tracker. */
+    public TermSchedule getTermSchedule(LoadProgress progress) {
+        TermSchedule result = cache;
+        if (result == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    IngestionMetrics metrics = new IngestionMetrics();
+                    Collection<CourseOffering> offerings = loadOfferings(progress, metrics);
+                    long buildStart = System.nanoTime();
+                    cache = new TermSchedule(offerings);
+                    metrics.recordBuild(System.nanoTime() - buildStart, cache.allOfferings().size());
+                    lastMetrics = metrics;
+                }
+                result = cache;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    /** Returns the stage timings and rejection counts of the load. */
+    public IngestionMetrics getLastMetrics() {
+        return lastMetrics;
+    }
+
+    /**
+     * Memory-maps the file and scans it byte by byte. Field bytes are unquoted into a scratch
+     * buffer, text is resolved through a ByteStringPool and times are decoded straight from bytes.
+     */
+    private Collection<CourseOffering> loadOfferings(LoadProgress progress, IngestionMetrics metrics) {
+        OfferingAssembler assembler = new OfferingAssembler(buildingRegistry, progress, metrics);
+        ByteStringPool strings = new ByteStringPool();
+        ScheduleRow row = new ScheduleRow();
+        byte[] field = new byte[256];
+
+        long openStart = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Delimited file is larger than 2 GB: " + filePath);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            metrics.recordOpen(System.nanoTime() - openStart);
+            long rowsStart = System.nanoTime();
+            long rowsBefore = progress.getRowsProcessed();
+            int limit = (int) size;
+            int position = 0;
+            int rowIndex = 0;
+            if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+                position = 3;
+            }
+
+            while (position < limit) {
+                row.reset(rowIndex);
+                int column = 0;
+                boolean rowEnded = false;
+                while (!rowEnded) {
+                    int length = 0;
+                    boolean quoted = position < limit && buffer.get(position) == '"';
+                    if (quoted) {
+                        position++;
+                    }
+                    while (position < limit) {
+                        byte b = buffer.get(position);
+                        if (quoted) {
+                            if (b == '"') {
+                                if (position + 1 < limit && buffer.get(position + 1) == '"') {
+                                    position++;
+                                } else {
+                                    quoted = false;
+                                    position++;
+                                    continue;
+                                }
+                            }
+                        } else if (b == delimiter || b == '\n' || b == '\r') {
+                            break;
+                        }
+                        if (length == field.length) {
+                            field = Arrays.copyOf(field, length * 2);
+                        }
+                        field[length++] = b;
+                        position++;
+                    }
+
+                    if (rowIndex > 0) {
+                        storeField(row, column, field, length, strings);
+                    }
+                    column++;
+
+                    if (position >= limit) {
+                        rowEnded = true;
+                    } else if (buffer.get(position) == delimiter) {
+                        position++;
+                    } else {
+                        if (buffer.get(position) == '\r' && position + 1 < limit && buffer.get(position + 1) == '\n') {
+                            position++;
+                        }
+                        position++;
+                        rowEnded = true;
+                    }
+                }
+                if (rowIndex > 0) {
+                    assembler.accept(row);
+                }
+                rowIndex++;
+            }
+            metrics.recordRows(System.nanoTime() - rowsStart, progress.getRowsProcessed() - rowsBefore);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read delimited file: " + filePath, ex);
+        }
+        return assembler.getOfferings();
+    }
+
+    /** Decodes one field into the row according to its column. */
+    private void storeField(ScheduleRow row, int column, byte[] field, int length, ByteStringPool strings) {
+        if (column == ScheduleRow.START_TIME) {
+            row.setStartTime(ScheduleCells.textTime(field, length));
+        } else if (column == ScheduleRow.END_TIME) {
+            row.setEndTime(ScheduleCells.textTime(field, length));
+        } else if (column < ScheduleRow.COLUMN_COUNT) {
+            row.setText(column, strings.intern(field, length));
+        }
+    }
+}
@@ -2,16 +2,26 @@ package service;
 
 import domain.Building;
 import domain.CampusCoordinate;
+import infra.BuildingRegistry;
+
+import java.util.List;
 
 public class DistanceCalculator {
     private final double metersPerUnit;
+    private final BuildingRegistry registry;
 
     /** Configures a simple Euclidean distance calculator with a campus scale factor. */
     public DistanceCalculator(double metersPerUnit) {
+        this(metersPerUnit, null);
+    }
+
+    /** Configures a calculator that reads registered buildings' distances from the registry's precomputed matrix. */
+    public DistanceCalculator(double metersPerUnit, BuildingRegistry registry) {
         if (metersPerUnit <= 0) {
             throw new IllegalArgumentException("Scale must be positive");
         }
         this.metersPerUnit = metersPerUnit;
+        this.registry = registry;
     }
 
     /** Converts normalized building coordinates into meters, returning 0 when inputs are missing. */
@@ -19,6 +29,11 @@ public class DistanceCalculator {
         if (from == null || to == null) {
             return 0.0;
         }
+        int fromId = idOf(from);
+        int toId = idOf(to);
+        if (fromId >= 0 && toId >= 0) {
+            return calculate(fromId, toId);
+        }
         CampusCoordinate start = from.getLocation();
         CampusCoordinate end = to.getLocation();
         double dx = end.getX() - start.getX();
@@ -26,4 +41,35 @@ public class DistanceCalculator {
         double distance = Math.sqrt(dx * dx + dy * dy);
         return distance * metersPerUnit;
     }
+
+    /** Returns the distance in meters between two dense building ids from the registry's matrix. */
+    public double calculate(int fromId, int toId) {
+        if (registry == null) {
+            throw new IllegalStateException("Building ids require a registry");
+        }
+        return registry.unitDistance(fromId, toId) * metersPerUnit;
+    }
+
+    /** Returns up to k registered buildings closest to the point, nearest first, using the registry's spatial index. */
+    public List<Building> nearestBuildings(CampusCoordinate point, int k) {
+        if (registry == null) {
+            throw new IllegalStateException("Nearest-building queries require a registry");
+        }
+        return registry.getSpatialIndex().nearest(point, k);
+    }
+
+    /** Returns the building's dense id, or -1 when there is no registry or it does not hold this instance. */
+    public int idOf(Building building) {
+        return registry == null ? -1 : registry.idOf(building);
+    }
+
+    /** Returns the registry's coordinate version, or 0 when distances do not come from a registry. */
+    public long getCoordinateVersion() {
+        return registry == null ? 0 : registry.getVersion();
+    }
+
+    /** Returns the meters represented by one normalized map unit. */
+    public double getMetersPerUnit() {
+        return metersPerUnit;
+    }
 }
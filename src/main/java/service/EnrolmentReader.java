@@ -0,0 +1,52 @@
+package service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Reads enrolment exports with one student per line: the student id followed by that student's
+ * CRNs, separated by commas, semicolons or whitespace. Blank lines, lines starting with '#' and
+ * lines without CRNs (such as a header) are skipped.
+ */
+public final class EnrolmentReader {
+    private static final String SEPARATORS = "[\\s,;]+";
+
+    /** Prevents instantiation. */
+    private EnrolmentReader() {
+    }
+
+    /**
+     * Lazily streams the students in the file; the caller must close the stream. Read errors
+     * surface as RuntimeExceptions while the stream is consumed.
+     */
+    public static Stream<StudentSchedule> read(Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("Enrolment file path is required");
+        }
+        Stream<String> lines;
+        try {
+            lines = Files.lines(path, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read enrolments: " + path, ex);
+        }
+        return lines.map(EnrolmentReader::parse).filter(Objects::nonNull);
+    }
+
+    /** Parses one line, returning null for lines that carry no enrolment. */
+    static StudentSchedule parse(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+        String[] tokens = trimmed.split(SEPARATORS);
+        if (tokens.length < 2 || tokens[1].chars().noneMatch(Character::isDigit)) {
+            return null;
+        }
+        return new StudentSchedule(tokens[0], Arrays.asList(tokens).subList(1, tokens.length));
+    }
+}
@@ -0,0 +1,138 @@
+package service;
+
+import domain.Building;
+import domain.CourseOffering;
+import domain.SessionTable;
+import domain.TermSchedule;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves a student's CRNs to their SessionTable rows, packed as longs of (day, start minute,
+ * enrolment order, row) and sorted, so consecutive elements on the same day are the transfers
+ * planRoute would walk. The enrolment order numbers rows offering by offering in CRN order and
+ * session by session, which is the order planRoute's stable start-time sort keeps for sessions
+ * that start in the same minute. Offerings' rows are contiguous in the table, so each offering
+ * maps to a row range.
+ */
+final class EnrolmentRows {
+    private static final int DAY_SHIFT = 56;
+    private static final int START_SHIFT = 44;
+    private static final int ORDER_SHIFT = 24;
+    private static final long ROW_MASK = (1L << ORDER_SHIFT) - 1;
+    private static final long ORDER_MASK = (1L << (START_SHIFT - ORDER_SHIFT)) - 1;
+    private static final long START_MASK = (1L << (DAY_SHIFT - START_SHIFT)) - 1;
+
+    private final TermSchedule schedule;
+    private final SessionTable table;
+    private final int[] firstRows;
+    private final Map<CourseOffering, Integer> offeringIds = new IdentityHashMap<>();
+
+    /** Indexes the schedule's session rows by offering. */
+    EnrolmentRows(TermSchedule schedule) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("Term schedule is required");
+        }
+        this.schedule = schedule;
+        this.table = schedule.getSessionTable();
+        if (table.size() > ROW_MASK) {
+            throw new IllegalStateException("Too many sessions to pack: " + table.size());
+        }
+        int offeringCount = 0;
+        for (int row = 0; row < table.size(); row++) {
+            offeringCount = Math.max(offeringCount, table.offeringIdAt(row) + 1);
+        }
+        firstRows = new int[offeringCount + 1];
+        for (int row = 0; row < table.size(); row++) {
+            firstRows[table.offeringIdAt(row) + 1]++;
+        }
+        for (int id = 0; id < offeringCount; id++) {
+            firstRows[id + 1] += firstRows[id];
+            offeringIds.put(table.offering(id), id);
+        }
+    }
+
+    /** Returns the columnar table the rows refer to. */
+    SessionTable table() {
+        return table;
+    }
+
+    /** Returns one building per table building id, so legs can be planned between dictionary ids. */
+    Building[] buildings() {
+        Building[] buildings = new Building[table.buildingCount()];
+        for (int row = 0; row < table.size(); row++) {
+            if (buildings[table.buildingIdAt(row)] == null) {
+                buildings[table.buildingIdAt(row)] = table.room(table.roomIdAt(row)).getBuilding();
+            }
+        }
+        return buildings;
+    }
+
+    /**
+     * Returns the student's session rows packed and sorted by day, start minute, then enrolment
+     * order; unknown and repeated CRNs are skipped.
+     */
+    long[] sortedRows(StudentSchedule student) {
+        List<CourseOffering> offerings = schedule.findAllByCrns(student.getCrns());
+        int[] ids = new int[offerings.size()];
+        int idCount = 0;
+        int rowCount = 0;
+        for (CourseOffering offering : offerings) {
+            Integer id = offeringIds.get(offering);
+            if (id != null && !contains(ids, idCount, id)) {
+                ids[idCount++] = id;
+                rowCount += firstRows[id + 1] - firstRows[id];
+            }
+        }
+        if (rowCount > ORDER_MASK) {
+            throw new IllegalStateException("Too many sessions to pack for one student: " + rowCount);
+        }
+
+        long[] keys = new long[rowCount];
+        int size = 0;
+        for (int i = 0; i < idCount; i++) {
+            for (int row = firstRows[ids[i]]; row < firstRows[ids[i] + 1]; row++) {
+                keys[size] = ((long) table.dayAt(row).ordinal() << DAY_SHIFT)
+                        | ((long) table.startMinuteAt(row) << START_SHIFT)
+                        | ((long) size << ORDER_SHIFT)
+                        | row;
+                size++;
+            }
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /** Checks whether the first count ids already hold the id. */
+    private static boolean contains(int[] ids, int count, int id) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Indicates whether two packed rows fall on the same day. */
+    static boolean sameDay(long a, long b) {
+        return (a >>> DAY_SHIFT) == (b >>> DAY_SHIFT);
+    }
+
+    /** Extracts the day ordinal of a packed row. */
+    static int dayOf(long key) {
+        return (int) (key >>> DAY_SHIFT);
+    }
+
+    /** Extracts the start minute of a packed row. */
+    static int startOf(long key) {
+        return (int) ((key >>> START_SHIFT) & START_MASK);
+    }
+
+    /** Extracts the table row of a packed row. */
+    static int rowOf(long key) {
+        return (int) (key & ROW_MASK);
+    }
+}
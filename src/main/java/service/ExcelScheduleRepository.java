@@ -1,6 +1,7 @@
 package service;
 
-import domain.*;
+import domain.CourseOffering;
+import domain.TermSchedule;
 import infra.BuildingRegistry;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
@@ -14,45 +15,72 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 
 public class ExcelScheduleRepository implements ScheduleRepository {
     private final Path filePath;
     private final BuildingRegistry buildingRegistry;
-    private final Map<String, Course> courseCache = new HashMap<>();
-    private final Map<String, Instructor> instructorCache = new HashMap<>();
+    private final IngestionMode ingestionMode;
+    private final boolean snapshotEnabled;
     private volatile TermSchedule cache;
+    private volatile IngestionMetrics lastMetrics;
+
+    /** Selects how the workbook is read: fully into memory, or streamed row by row. */
+    public enum IngestionMode {
+        /** Opens the workbook through WorkbookFactory; works for .xls and .xlsx. */
+        IN_MEMORY,
+        /** Streams the first sheet of an .xlsx through the SAX event reader with constant memory. */
+        STREAMING
+    }
 
     /** Convenience constructor that accepts a string file path. */
     public ExcelScheduleRepository(String filePath, BuildingRegistry buildingRegistry) {
         this(Path.of(Objects.requireNonNull(filePath, "filePath")), buildingRegistry);
     }
 
-    /** Primary constructor storing the Excel path and shared building registry. */
+    /** Creates a repository that reads the whole workbook into memory. */
     public ExcelScheduleRepository(Path filePath, BuildingRegistry buildingRegistry) {
+        this(filePath, buildingRegistry, IngestionMode.IN_MEMORY);
+    }
+
+    /** Creates a repository that reuses a binary snapshot beside the workbook when it is current. */
+    public ExcelScheduleRepository(Path filePath, BuildingRegistry buildingRegistry, IngestionMode ingestionMode) {
+        this(filePath, buildingRegistry, ingestionMode, true);
+    }
+
+    /** Primary constructor storing the Excel path, shared building registry, ingestion mode and snapshot use. */
+    public ExcelScheduleRepository(Path filePath,
+                                   BuildingRegistry buildingRegistry,
+                                   IngestionMode ingestionMode,
+                                   boolean snapshotEnabled) {
         if (buildingRegistry == null) {
             throw new IllegalArgumentException("Building registry is required");
         }
+        if (ingestionMode == null) {
+            throw new IllegalArgumentException("Ingestion mode is required");
+        }
         this.filePath = filePath;
         this.buildingRegistry = buildingRegistry;
+        this.ingestionMode = ingestionMode;
+        this.snapshotEnabled = snapshotEnabled;
     }
 
     @Override
     /** Returns the cached term schedule or loads it from disk on first access. */
     public TermSchedule getTermSchedule() {
+        return getTermSchedule(new LoadProgress());
+    }
+
+    @Override
+    /** Returns the cached term schedule or loads it from disk, reporting rows to the progress tracker. */
+    public TermSchedule getTermSchedule(LoadProgress progress) {
         TermSchedule result = cache;
         if (result == null) {
             synchronized (this) {
                 if (cache == null) {
-                    cache = new TermSchedule(loadOfferings());
+                    cache = loadTermSchedule(progress);
                 }
                 result = cache;
             }
@@ -60,172 +88,138 @@ public class ExcelScheduleRepository implements ScheduleRepository {
         return result;
     }
 
-    /** Reads the workbook and constructs course offerings with their sessions. */
-    private Collection<CourseOffering> loadOfferings() {
-        List<CourseOffering> offerings = new ArrayList<>();
-        Map<String, CourseOffering> offeringsByCrn = new HashMap<>();
-
-        try (InputStream input = Files.newInputStream(filePath);
-             Workbook workbook = WorkbookFactory.create(input)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            int lastRow = sheet.getLastRowNum();
-            for (int rowIndex = 1; rowIndex <= lastRow; rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null) {
-                    continue;
-                }
-
-                String crn = readStringCell(row, 1);
-                if (crn == null || crn.isBlank()) {
-                    continue;
-                }
-
-                String courseCode = readStringCell(row, 2);
-                String department = readStringCell(row, 3);
-                String section = readStringCell(row, 4);
-                String title = readStringCell(row, 5);
-                String modalityToken = readStringCell(row, 6);
-                String daysToken = readStringCell(row, 7);
-                LocalTime startTime = readTime(row.getCell(8));
-                LocalTime endTime = readTime(row.getCell(9));
-                String buildingCode = readStringCell(row, 10);
-                String roomCode = readStringCell(row, 11);
-                String instructorName = readStringCell(row, 12);
-
-                Course course = getOrCreateCourse(courseCode, title, department);
-                Instructor instructor = getOrCreateInstructor(instructorName);
-                DeliveryMode deliveryMode = mapDeliveryMode(modalityToken);
-                ActivityType activityType = mapActivityType(modalityToken);
-
-                TimeSlot timeSlot = createTimeSlot(startTime, endTime);
-                Room room = createRoom(buildingCode, roomCode);
-                if (timeSlot == null || room == null) {
-                    continue;
-                }
-
-                CourseOffering offering = offeringsByCrn.computeIfAbsent(crn, key -> {
-                    CourseOffering created = new CourseOffering(crn, section, deliveryMode, course, instructor);
-                    offerings.add(created);
-                    return created;
-                });
-                offering.updateInstructorIfMissing(instructor);
+    /**
+     * Re-reads the workbook and publishes the new schedule with a single volatile write, so
+     * concurrent readers see either the old or the new schedule in full.
+     */
+    public ScheduleChangeEvent reload() {
+        synchronized (this) {
+            TermSchedule previous = cache;
+            TermSchedule next = loadTermSchedule(new LoadProgress());
+            cache = next;
+            return ScheduleChangeEvent.between(previous, next);
+        }
+    }
 
-                for (DayOfWeek day : parseDays(daysToken)) {
-                    MeetingSession session = new MeetingSession(day, timeSlot, activityType, room);
-                    offering.addSession(session);
-                }
-            }
-        } catch (IOException ex) {
-            throw new RuntimeException("Failed to read Excel file: " + filePath, ex);
+    /**
+     * Parses the workbook once to refresh its snapshot without keeping the schedule in the cache,
+     * so callers that read offerings straight from the snapshot never hold the whole term. Any
+     * schedule cached from the previous workbook is dropped and re-read on next access. Returns
+     * the parsed schedule so a caller whose snapshot could not be written can still answer from it.
+     */
+    TermSchedule rebuildSnapshot() {
+        synchronized (this) {
+            cache = null;
+            return loadTermSchedule(new LoadProgress());
         }
+    }
 
-        return offerings;
+    @Override
+    /** Returns the stage timings and rejection counts of the most recent load or reload. */
+    public IngestionMetrics getLastMetrics() {
+        return lastMetrics;
     }
 
-    /** Creates a Room object from the building and room code cells. */
-    private Room createRoom(String buildingCode, String roomCode) {
-        if (buildingCode == null || buildingCode.isBlank()) {
-            return null;
-        }
-        Building building = buildingRegistry.getOrCreate(buildingCode.trim());
-        int floor = parseFloor(roomCode);
-        String normalizedRoom = (roomCode == null || roomCode.isBlank()) ? "Unknown" : roomCode.trim();
-        return new Room(normalizedRoom, floor, building);
+    /** Returns the workbook this repository reads from. */
+    public Path getFilePath() {
+        return filePath;
     }
 
-    /** Attempts to infer the floor number from the room string. */
-    private int parseFloor(String roomCode) {
-        if (roomCode == null || roomCode.isBlank()) {
-            return 0;
-        }
-        for (char ch : roomCode.toCharArray()) {
-            if (Character.isDigit(ch)) {
-                return Character.digit(ch, 10);
+    /** Decodes a current snapshot when available, otherwise parses the workbook and refreshes the snapshot. */
+    private TermSchedule loadTermSchedule(LoadProgress progress) {
+        IngestionMetrics metrics = new IngestionMetrics();
+        if (snapshotEnabled) {
+            long decodeStart = System.nanoTime();
+            TermSchedule snapshot = TermScheduleSnapshot.readIfFresh(filePath, buildingRegistry);
+            if (snapshot != null) {
+                metrics.markFromSnapshot();
+                metrics.recordOpen(System.nanoTime() - decodeStart);
+                metrics.recordBuild(0, snapshot.allOfferings().size());
+                lastMetrics = metrics;
+                return snapshot;
             }
         }
-        return 0;
-    }
-
-    /** Builds a TimeSlot when both start/end values parse correctly. */
-    private TimeSlot createTimeSlot(LocalTime start, LocalTime end) {
-        if (start == null || end == null) {
-            return null;
+        TermScheduleSnapshot.Fingerprint fingerprint = snapshotEnabled ? fingerprint() : null;
+        Collection<CourseOffering> offerings = loadOfferings(progress, metrics);
+        long buildStart = System.nanoTime();
+        TermSchedule schedule = new TermSchedule(offerings);
+        metrics.recordBuild(System.nanoTime() - buildStart, schedule.allOfferings().size());
+        lastMetrics = metrics;
+        if (fingerprint == null) {
+            return schedule;
         }
         try {
-            return new TimeSlot(start, end);
-        } catch (IllegalArgumentException ex) {
-            return null;
+            TermScheduleSnapshot.write(filePath, fingerprint, schedule);
+        } catch (IOException ex) {
+            // The snapshot only speeds up the next launch; a read-only folder must not fail the load.
         }
+        return schedule;
     }
 
-    /** Reuses or creates Course objects so duplicates share references. */
-    /** Reuses or constructs a Course entity keyed by course code. */
-    private Course getOrCreateCourse(String code, String title, String department) {
-        String normalizedCode = (code == null || code.isBlank()) ? "UNKNOWN" : code.trim();
-        return courseCache.computeIfAbsent(normalizedCode, key -> new Course(
-                normalizedCode,
-                title == null || title.isBlank() ? normalizedCode : title.trim(),
-                department == null || department.isBlank() ? "N/A" : department.trim()
-        ));
-    }
-
-    /** Reuses or constructs an Instructor entity keyed by name (when provided). */
-    private Instructor getOrCreateInstructor(String name) {
-        if (name == null || name.isBlank()) {
+    /** Fingerprints the workbook before parsing, or returns null when it cannot be read up front. */
+    private TermScheduleSnapshot.Fingerprint fingerprint() {
+        try {
+            return TermScheduleSnapshot.Fingerprint.of(filePath);
+        } catch (IOException ex) {
+            // Parsing reports the real failure; without a fingerprint the snapshot is simply skipped.
             return null;
         }
-        String normalized = name.trim();
-        return instructorCache.computeIfAbsent(normalized, key -> new Instructor(normalized, null));
     }
 
-    /** Maps the modality token (LEC/LAB/INT) to the DeliveryMode enum. */
-    private DeliveryMode mapDeliveryMode(String token) {
-        if (token == null) {
-            return DeliveryMode.OTHER;
+    /** Reads the workbook with the configured mode and constructs course offerings with their sessions. */
+    private Collection<CourseOffering> loadOfferings(LoadProgress progress, IngestionMetrics metrics) {
+        if (ingestionMode == IngestionMode.STREAMING) {
+            ParallelOfferingAssembler assembler = new ParallelOfferingAssembler(buildingRegistry, progress, metrics);
+            XlsxSheetStreamer.stream(filePath, null, assembler, progress, metrics);
+            return assembler.getOfferings();
         }
-        return switch (token.trim().toUpperCase(Locale.ROOT)) {
-            case "LEC", "LECT" -> DeliveryMode.LECTURE;
-            case "LAB" -> DeliveryMode.LAB;
-            case "COP", "INT" -> DeliveryMode.INTERNSHIP;
-            default -> DeliveryMode.OTHER;
-        };
+        return readRows(progress, metrics);
     }
 
-    /** Maps the modality token to the ActivityType used by meeting sessions. */
-    private ActivityType mapActivityType(String token) {
-        if (token == null) {
-            return ActivityType.OTHER;
+    /**
+     * Loads the full workbook into memory and reads the first sheet on this thread, since the XSSF
+     * cell getters serialize on the document anyway; assembly of the rows runs in parallel behind it.
+     */
+    private Collection<CourseOffering> readRows(LoadProgress progress, IngestionMetrics metrics) {
+        long openStart = System.nanoTime();
+        try (InputStream input = Files.newInputStream(filePath);
+             Workbook workbook = WorkbookFactory.create(input)) {
+            metrics.recordOpen(System.nanoTime() - openStart);
+            long rowsStart = System.nanoTime();
+            long rowsBefore = progress.getRowsProcessed();
+            Sheet sheet = workbook.getSheetAt(0);
+            int lastRow = sheet.getLastRowNum();
+            ParallelOfferingAssembler assembler = new ParallelOfferingAssembler(buildingRegistry, progress, metrics);
+            ScheduleRow scheduleRow = new ScheduleRow();
+            for (int rowIndex = 1; rowIndex <= lastRow; rowIndex++) {
+                Row row = sheet.getRow(rowIndex);
+                if (row == null) {
+                    continue;
+                }
+                readRow(row, scheduleRow);
+                assembler.accept(scheduleRow);
+            }
+            assembler.finish();
+            Collection<CourseOffering> offerings = assembler.getOfferings();
+            metrics.recordRows(System.nanoTime() - rowsStart, progress.getRowsProcessed() - rowsBefore);
+            return offerings;
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read Excel file: " + filePath, ex);
         }
-        return switch (token.trim().toUpperCase(Locale.ROOT)) {
-            case "LEC", "LECT" -> ActivityType.LECTURE;
-            case "LAB" -> ActivityType.LAB;
-            case "COP", "INT" -> ActivityType.INTERNSHIP;
-            default -> ActivityType.OTHER;
-        };
     }
 
-    /** Expands a day token like "UT" into the corresponding DayOfWeek values. */
-    private Iterable<DayOfWeek> parseDays(String token) {
-        if (token == null) {
-            return java.util.List.of();
-        }
-        java.util.List<DayOfWeek> days = new java.util.ArrayList<>();
-        for (char ch : token.trim().toUpperCase(Locale.ROOT).toCharArray()) {
-            DayOfWeek mapped = switch (ch) {
-                case 'U' -> DayOfWeek.SUNDAY;
-                case 'M' -> DayOfWeek.MONDAY;
-                case 'T' -> DayOfWeek.TUESDAY;
-                case 'W' -> DayOfWeek.WEDNESDAY;
-                case 'R', 'H' -> DayOfWeek.THURSDAY;
-                case 'F' -> DayOfWeek.FRIDAY;
-                case 'S' -> DayOfWeek.SATURDAY;
-                default -> null;
-            };
-            if (mapped != null) {
-                days.add(mapped);
+    /** Copies the cells of one sheet row into the reusable row holder. */
+    private void readRow(Row row, ScheduleRow scheduleRow) {
+        scheduleRow.reset(row.getRowNum());
+        for (int column = 0; column < ScheduleRow.COLUMN_COUNT; column++) {
+            if (column == ScheduleRow.START_TIME) {
+                scheduleRow.setStartTime(readTime(row.getCell(column)));
+            } else if (column == ScheduleRow.END_TIME) {
+                scheduleRow.setEndTime(readTime(row.getCell(column)));
+            } else {
+                scheduleRow.setText(column, readStringCell(row, column));
             }
         }
-        return days;
     }
 
     /** Reads a cell as a trimmed string, handling numeric CRN values gracefully. */
@@ -235,16 +229,10 @@ public class ExcelScheduleRepository implements ScheduleRepository {
             return null;
         }
         if (cell.getCellType() == CellType.STRING) {
-            String value = cell.getStringCellValue();
-            return value == null ? null : value.trim();
+            return ScheduleCells.text(cell.getStringCellValue());
         }
         if (cell.getCellType() == CellType.NUMERIC) {
-            double numericValue = cell.getNumericCellValue();
-            long longValue = Math.round(numericValue);
-            if (Math.abs(numericValue - longValue) < 0.0001) {
-                return Long.toString(longValue);
-            }
-            return Double.toString(numericValue);
+            return ScheduleCells.numericText(cell.getNumericCellValue());
         }
         if (cell.getCellType() == CellType.BLANK) {
             return null;
@@ -258,47 +246,11 @@ public class ExcelScheduleRepository implements ScheduleRepository {
             return null;
         }
         if (cell.getCellType() == CellType.NUMERIC) {
-            if (DateUtil.isCellDateFormatted(cell)) {
-                return cell.getLocalDateTimeCellValue().toLocalTime();
-            }
-            double value = cell.getNumericCellValue();
-            if (value >= 0 && value < 1) {
-                long totalSeconds = Math.round(value * 24 * 60 * 60);
-                int hours = (int) (totalSeconds / 3600);
-                int minutes = (int) ((totalSeconds % 3600) / 60);
-                return LocalTime.of(hours % 24, minutes % 60);
-            }
-            String formatted = String.format(Locale.ROOT, "%04d", (int) Math.round(value));
-            return parseTimeString(formatted);
+            return ScheduleCells.numericTime(cell.getNumericCellValue(), DateUtil.isCellDateFormatted(cell));
         }
         if (cell.getCellType() == CellType.STRING) {
-            String raw = cell.getStringCellValue();
-            if (raw == null || raw.isBlank()) {
-                return null;
-            }
-            String digits = raw.replace(":", "").trim();
-            if (digits.length() == 3) {
-                digits = "0" + digits;
-            }
-            return parseTimeString(digits);
+            return ScheduleCells.textTime(cell.getStringCellValue());
         }
         return null;
     }
-
-    /** Parses a four-character HHmm string into a LocalTime. */
-    private LocalTime parseTimeString(String value) {
-        if (value == null || value.length() != 4) {
-            return null;
-        }
-        try {
-            int hour = Integer.parseInt(value.substring(0, 2));
-            int minute = Integer.parseInt(value.substring(2, 4));
-            if (hour < 0 || hour >= 24 || minute < 0 || minute >= 60) {
-                return null;
-            }
-            return LocalTime.of(hour, minute);
-        } catch (NumberFormatException ex) {
-            return null;
-        }
-    }
 }
@@ -0,0 +1,165 @@
+package service;
+
+import domain.CourseOffering;
+import domain.TermSchedule;
+import infra.BuildingRegistry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class IndexedScheduleRepository implements ScheduleRepository {
+    private final Path filePath;
+    private final BuildingRegistry buildingRegistry;
+    private final ExcelScheduleRepository delegate;
+    private final int maxCachedOfferings;
+    private final Map<String, CourseOffering> offeringCache;
+    private TermScheduleSnapshot.Reader reader;
+    private CrnIndex index;
+    private TermSchedule fallback;
+    private long indexedSize = -1;
+    private long indexedModified = -1;
+
+    /**
+     * Answers CRN lookups from the binary snapshot through an on-disk CRN index, decoding only the
+     * requested offerings and keeping at most maxCachedOfferings of them in memory.
+     */
+    public IndexedScheduleRepository(Path filePath, BuildingRegistry buildingRegistry, int maxCachedOfferings) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("File path is required");
+        }
+        if (buildingRegistry == null) {
+            throw new IllegalArgumentException("Building registry is required");
+        }
+        if (maxCachedOfferings <= 0) {
+            throw new IllegalArgumentException("At least one cached offering must be allowed");
+        }
+        this.filePath = filePath;
+        this.buildingRegistry = buildingRegistry;
+        this.delegate = new ExcelScheduleRepository(filePath, buildingRegistry,
+                ExcelScheduleRepository.IngestionMode.STREAMING, true);
+        this.maxCachedOfferings = maxCachedOfferings;
+        this.offeringCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CourseOffering> eldest) {
+                return size() > IndexedScheduleRepository.this.maxCachedOfferings;
+            }
+        };
+    }
+
+    @Override
+    /** Returns the full term schedule; callers that only need a few CRNs should use findOfferingsByCrns. */
+    public TermSchedule getTermSchedule() {
+        return delegate.getTermSchedule();
+    }
+
+    @Override
+    /** Returns the full term schedule, reporting rows to the progress tracker when the workbook is parsed. */
+    public TermSchedule getTermSchedule(LoadProgress progress) {
+        return delegate.getTermSchedule(progress);
+    }
+
+    @Override
+    /** Returns the metrics of the most recent full parse or snapshot decode. */
+    public IngestionMetrics getLastMetrics() {
+        return delegate.getLastMetrics();
+    }
+
+    @Override
+    /** Decodes just the requested offerings, falling back to the full schedule when no index can be built. */
+    public synchronized List<CourseOffering> findOfferingsByCrns(Collection<String> crns) {
+        if (crns == null) {
+            throw new IllegalArgumentException("CRN collection is required");
+        }
+        if (!ensureIndex()) {
+            return fallback.findAllByCrns(crns);
+        }
+        List<CourseOffering> result = new ArrayList<>();
+        for (String crn : crns) {
+            if (crn == null || crn.isBlank()) {
+                continue;
+            }
+            String key = crn.trim();
+            CourseOffering offering = offeringCache.get(key);
+            if (offering == null) {
+                int offset = index.offsetOf(key);
+                if (offset < 0) {
+                    continue;
+                }
+                offering = reader.offeringAt(offset);
+                offeringCache.put(key, offering);
+            }
+            result.add(offering);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /** Returns the workbook this repository reads from. */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Makes sure the snapshot reader and CRN index match the current workbook, re-parsing it into a
+     * new snapshot when it changed and rebuilding the index when it is missing or older than the snapshot.
+     * The parse result is discarded once written, so only the bounded offering cache stays in memory.
+     * When no snapshot or index can be written, the schedule already parsed or decoded for this
+     * workbook version is kept as the fallback instead of parsing the workbook again.
+     */
+    private boolean ensureIndex() {
+        long size;
+        long modified;
+        try {
+            size = Files.size(filePath);
+            modified = Files.getLastModifiedTime(filePath).toMillis();
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to read schedule file: " + filePath, ex);
+        }
+        if (size == indexedSize && modified == indexedModified) {
+            if (reader != null && index != null) {
+                return true;
+            }
+            if (fallback != null) {
+                return false;
+            }
+        }
+        reader = null;
+        index = null;
+        fallback = null;
+        offeringCache.clear();
+        indexedSize = size;
+        indexedModified = modified;
+
+        TermScheduleSnapshot.Reader current = TermScheduleSnapshot.openIfFresh(filePath, buildingRegistry);
+        if (current == null) {
+            TermSchedule parsed = delegate.rebuildSnapshot();
+            current = TermScheduleSnapshot.openIfFresh(filePath, buildingRegistry);
+            if (current == null) {
+                fallback = parsed;
+                return false;
+            }
+        }
+        CrnIndex currentIndex = CrnIndex.openIfFresh(filePath);
+        if (currentIndex == null) {
+            try {
+                CrnIndex.write(filePath, current.offeringOffsets());
+                currentIndex = CrnIndex.openIfFresh(filePath);
+            } catch (IOException ex) {
+                // Without a writable folder the decoded snapshot still answers every lookup.
+            }
+            if (currentIndex == null) {
+                fallback = current.readAll();
+                return false;
+            }
+        }
+        reader = current;
+        index = currentIndex;
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class IngestionMetrics {
+    /** Sample size kept per rejection reason so huge bad exports do not bloat the metrics. */
+    public static final int MAX_SAMPLED_ROWS = 20;
+
+    /** Reasons a sheet row is skipped instead of producing meeting sessions. */
+    public enum RejectReason {
+        BLANK_CRN("blank CRN"),
+        INVALID_TIME_SLOT("missing or invalid time slot"),
+        MISSING_BUILDING("missing building");
+
+        private final String label;
+
+        RejectReason(String label) {
+            this.label = label;
+        }
+
+        /** Returns the human-readable reason shown in the summary. */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<RejectReason, LongAdder> rejectedCounts = new EnumMap<>(RejectReason.class);
+    private final Map<RejectReason, List<Integer>> rejectedSamples = new EnumMap<>(RejectReason.class);
+    private volatile long openNanos;
+    private volatile long rowsNanos;
+    private volatile long buildNanos;
+    private volatile long rowsProcessed;
+    private volatile int offeringCount;
+    private volatile boolean fromSnapshot;
+
+    /** Creates empty metrics for a single load. */
+    public IngestionMetrics() {
+        for (RejectReason reason : RejectReason.values()) {
+            rejectedCounts.put(reason, new LongAdder());
+            rejectedSamples.put(reason, new ArrayList<>());
+        }
+    }
+
+    /** Counts a rejected row and samples its 1-based spreadsheet row number; safe across loader threads. */
+    void recordRejected(RejectReason reason, int rowNumber) {
+        rejectedCounts.get(reason).increment();
+        List<Integer> samples = rejectedSamples.get(reason);
+        synchronized (samples) {
+            if (samples.size() < MAX_SAMPLED_ROWS) {
+                samples.add(rowNumber);
+            }
+        }
+    }
+
+    /** Records how long it took to open the file (or decode the snapshot). */
+    void recordOpen(long nanos) {
+        this.openNanos = nanos;
+    }
+
+    /** Records how long it took to iterate and assemble the rows. */
+    void recordRows(long nanos, long rowsProcessed) {
+        this.rowsNanos = nanos;
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    /** Records how long it took to construct the TermSchedule and how many offerings it holds. */
+    void recordBuild(long nanos, int offeringCount) {
+        this.buildNanos = nanos;
+        this.offeringCount = offeringCount;
+    }
+
+    /** Marks the load as served from the binary snapshot rather than the source file. */
+    void markFromSnapshot() {
+        this.fromSnapshot = true;
+    }
+
+    /** Returns the time spent opening the workbook or decoding the snapshot, in milliseconds. */
+    public double getOpenMillis() {
+        return openNanos / 1_000_000.0;
+    }
+
+    /** Returns the time spent iterating rows, in milliseconds. */
+    public double getRowsMillis() {
+        return rowsNanos / 1_000_000.0;
+    }
+
+    /** Returns the time spent constructing the TermSchedule, in milliseconds. */
+    public double getBuildMillis() {
+        return buildNanos / 1_000_000.0;
+    }
+
+    /** Returns the number of sheet rows handed to the assembler. */
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    /** Returns the row throughput of the iteration stage. */
+    public double getRowsPerSecond() {
+        return rowsNanos <= 0 ? 0.0 : rowsProcessed / (rowsNanos / 1_000_000_000.0);
+    }
+
+    /** Returns the number of offerings in the resulting schedule. */
+    public int getOfferingCount() {
+        return offeringCount;
+    }
+
+    /** Indicates whether the schedule came from the binary snapshot. */
+    public boolean isFromSnapshot() {
+        return fromSnapshot;
+    }
+
+    /** Returns how many rows were skipped for the reason. */
+    public long getRejectedCount(RejectReason reason) {
+        return rejectedCounts.get(reason).sum();
+    }
+
+    /** Returns up to MAX_SAMPLED_ROWS sorted spreadsheet row numbers skipped for the reason. */
+    public List<Integer> getRejectedSamples(RejectReason reason) {
+        List<Integer> samples = rejectedSamples.get(reason);
+        List<Integer> copy;
+        synchronized (samples) {
+            copy = new ArrayList<>(samples);
+        }
+        Collections.sort(copy);
+        return Collections.unmodifiableList(copy);
+    }
+
+    /** Formats the metrics as lines for the summary panel. */
+    public List<String> toSummaryLines() {
+        List<String> lines = new ArrayList<>();
+        if (fromSnapshot) {
+            lines.add(String.format(Locale.ROOT, "Loaded from snapshot in %.1f ms", getOpenMillis()));
+            return lines;
+        }
+        lines.add(String.format(Locale.ROOT, "Open: %.1f ms, Rows: %.1f ms, Build: %.1f ms",
+                getOpenMillis(), getRowsMillis(), getBuildMillis()));
+        lines.add(String.format(Locale.ROOT, "Rows processed = %,d (%,.0f rows/s)", rowsProcessed, getRowsPerSecond()));
+        for (RejectReason reason : RejectReason.values()) {
+            long count = getRejectedCount(reason);
+            if (count == 0) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "Rejected (%s) = %,d", reason.getLabel(), count));
+            List<Integer> samples = getRejectedSamples(reason);
+            line.append(" e.g. rows ");
+            for (int i = 0; i < samples.size(); i++) {
+                if (i > 0) {
+                    line.append(", ");
+                }
+                line.append(samples.get(i));
+            }
+            if (count > samples.size()) {
+                line.append(", ...");
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,67 @@
+package service;
+
+import domain.Building;
+import domain.MeetingSession;
+import domain.Room;
+import domain.TimeSlot;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizing pools for the small immutable values created per spreadsheet row, so every
+ * equal Room and TimeSlot in a term shares one instance. Sessions are not pooled: each offering
+ * keeps its own MeetingSession objects, so indexes keyed by session identity can still tell
+ * offerings apart.
+ */
+final class IngestionPools {
+    private final Map<RoomKey, Room> rooms = new HashMap<>();
+    private final Map<TimeSlotKey, TimeSlot> timeSlots = new HashMap<>();
+    private final boolean pooling;
+
+    /** Creates empty pools. */
+    IngestionPools() {
+        this(true);
+    }
+
+    private IngestionPools(boolean pooling) {
+        this.pooling = pooling;
+    }
+
+    /** Returns pools that hand out a new instance on every call, for measuring what pooling saves. */
+    static IngestionPools disabled() {
+        return new IngestionPools(false);
+    }
+
+    /** Returns the shared room for a building, room number and floor. */
+    Room room(Building building, String number, int floor) {
+        if (!pooling) {
+            return new Room(number, floor, building);
+        }
+        return rooms.computeIfAbsent(new RoomKey(building, number, floor), key -> new Room(number, floor, building));
+    }
+
+    /** Returns the shared time slot for a window, throwing IllegalArgumentException when it is invalid. */
+    TimeSlot timeSlot(LocalTime start, LocalTime end) {
+        if (!pooling) {
+            return new TimeSlot(start, end);
+        }
+        return timeSlots.computeIfAbsent(new TimeSlotKey(start, end), key -> new TimeSlot(start, end));
+    }
+
+    /** Rebuilds a session from another pool on this pool's room and time slot, as a new instance. */
+    MeetingSession rehome(MeetingSession session) {
+        Room source = session.getRoom();
+        Room room = room(source.getBuilding(), source.getNumber(), source.getFloor());
+        TimeSlot timeSlot = timeSlot(session.getTimeSlot().getStart(), session.getTimeSlot().getEnd());
+        return new MeetingSession(session.getDay(), timeSlot, session.getActivityType(), room);
+    }
+
+    /** Buildings come from the registry, so identity is the right equality for them. */
+    private record RoomKey(Building building, String number, int floor) {
+    }
+
+    private record TimeSlotKey(LocalTime start, LocalTime end) {
+    }
+}
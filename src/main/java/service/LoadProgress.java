@@ -0,0 +1,58 @@
+package service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class LoadProgress {
+    private static final long REPORT_EVERY_ROWS = 4096;
+
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final Consumer<LoadProgress> listener;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean cancelled;
+
+    /** Creates a progress tracker that nobody observes. */
+    public LoadProgress() {
+        this(progress -> { });
+    }
+
+    /** Creates a progress tracker that notifies the listener periodically from the loading threads. */
+    public LoadProgress(Consumer<LoadProgress> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener is required");
+        }
+        this.listener = listener;
+    }
+
+    /** Asks the load to stop at the next row boundary. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /** Indicates whether cancellation was requested. */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Returns the number of sheet rows handed to the assembler so far. */
+    public long getRowsProcessed() {
+        return rowsProcessed.get();
+    }
+
+    /** Returns the average throughput since the tracker was created. */
+    public double getRowsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds <= 0 ? 0.0 : rowsProcessed.get() / seconds;
+    }
+
+    /** Counts one row, notifying the listener periodically and aborting when cancelled. */
+    void rowProcessed() {
+        if (cancelled) {
+            throw new CancellationException("Schedule load cancelled");
+        }
+        if (rowsProcessed.incrementAndGet() % REPORT_EVERY_ROWS == 0) {
+            listener.accept(this);
+        }
+    }
+}
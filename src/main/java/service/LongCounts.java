@@ -0,0 +1,93 @@
+package service;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative long keys to int counts, kept on primitive arrays so
+ * per-thread accumulation in bulk scans neither boxes nor allocates per increment.
+ */
+final class LongCounts {
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    /** Creates an empty map. */
+    LongCounts() {
+        keys = new long[64];
+        counts = new int[64];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /** Adds delta to the key's count, inserting the key when absent. */
+    void add(long key, int delta) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Key cannot be negative");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == key) {
+            counts[slot] += delta;
+            return;
+        }
+        keys[slot] = key;
+        counts[slot] = delta;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /** Adds every count of the other map into this one. */
+    void addAll(LongCounts other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                add(other.keys[slot], other.counts[slot]);
+            }
+        }
+    }
+
+    /** Returns the number of distinct keys. */
+    int size() {
+        return size;
+    }
+
+    /** Calls the visitor once per key with its count, in no particular order. */
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                visitor.accept(keys[slot], counts[slot]);
+            }
+        }
+    }
+
+    /** Doubles the table and reinserts every key. */
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[keys.length];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                add(oldKeys[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    /** Spreads the key's bits so sequential keys do not cluster. */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Receives one key and its count. */
+    interface Visitor {
+        /** Handles one entry. */
+        void accept(long key, int count);
+    }
+}
@@ -0,0 +1,131 @@
+package service;
+
+import domain.TermSchedule;
+import infra.BuildingRegistry;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class MultiTermScheduleRepository implements ScheduleRepository {
+    private final Path filePath;
+    private final BuildingRegistry buildingRegistry;
+    private final int maxLoadedTerms;
+    private final Map<String, TermSchedule> loadedTerms;
+    private volatile List<String> termNames;
+    private volatile String selectedTerm;
+    private volatile IngestionMetrics lastMetrics;
+
+    /** Convenience constructor that accepts a string file path. */
+    public MultiTermScheduleRepository(String filePath, BuildingRegistry buildingRegistry, int maxLoadedTerms) {
+        this(Path.of(Objects.requireNonNull(filePath, "filePath")), buildingRegistry, maxLoadedTerms);
+    }
+
+    /** Treats every sheet of an .xlsx workbook as its own term, keeping at most maxLoadedTerms parsed. */
+    public MultiTermScheduleRepository(Path filePath, BuildingRegistry buildingRegistry, int maxLoadedTerms) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("File path is required");
+        }
+        if (buildingRegistry == null) {
+            throw new IllegalArgumentException("Building registry is required");
+        }
+        if (maxLoadedTerms <= 0) {
+            throw new IllegalArgumentException("At least one loaded term must be allowed");
+        }
+        this.filePath = filePath;
+        this.buildingRegistry = buildingRegistry;
+        this.maxLoadedTerms = maxLoadedTerms;
+        this.loadedTerms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TermSchedule> eldest) {
+                return size() > MultiTermScheduleRepository.this.maxLoadedTerms;
+            }
+        };
+    }
+
+    /** Lists the term (sheet) names in workbook order; only the workbook index is read, never sheet data. */
+    public List<String> listTerms() {
+        List<String> names = termNames;
+        if (names == null) {
+            synchronized (this) {
+                if (termNames == null) {
+                    termNames = Collections.unmodifiableList(XlsxSheetStreamer.listSheets(filePath));
+                }
+                names = termNames;
+            }
+        }
+        return names;
+    }
+
+    /** Chooses the term returned by getTermSchedule() without loading it. */
+    public void selectTerm(String termName) {
+        if (!listTerms().contains(termName)) {
+            throw new IllegalArgumentException("Unknown term: " + termName);
+        }
+        this.selectedTerm = termName;
+    }
+
+    /** Returns the selected term, defaulting to the first sheet. */
+    public String getSelectedTerm() {
+        String selected = selectedTerm;
+        if (selected != null) {
+            return selected;
+        }
+        List<String> names = listTerms();
+        if (names.isEmpty()) {
+            throw new IllegalStateException("Workbook has no sheets: " + filePath);
+        }
+        return names.get(0);
+    }
+
+    /** Indicates whether a term is currently parsed and held in memory. */
+    public synchronized boolean isLoaded(String termName) {
+        return loadedTerms.containsKey(termName);
+    }
+
+    @Override
+    /** Returns the schedule of the selected term, loading it on first access. */
+    public TermSchedule getTermSchedule() {
+        return getTermSchedule(getSelectedTerm(), new LoadProgress());
+    }
+
+    @Override
+    /** Returns the schedule of the selected term, reporting rows to the progress tracker while loading. */
+    public TermSchedule getTermSchedule(LoadProgress progress) {
+        return getTermSchedule(getSelectedTerm(), progress);
+    }
+
+    /** Returns the schedule of a named term, loading it on first access and evicting the least recently used. */
+    public TermSchedule getTermSchedule(String termName) {
+        return getTermSchedule(termName, new LoadProgress());
+    }
+
+    /** Looks the term up in the LRU, otherwise streams its sheet into a new TermSchedule. */
+    private synchronized TermSchedule getTermSchedule(String termName, LoadProgress progress) {
+        TermSchedule loaded = loadedTerms.get(termName);
+        if (loaded != null) {
+            return loaded;
+        }
+        if (!listTerms().contains(termName)) {
+            throw new IllegalArgumentException("Unknown term: " + termName);
+        }
+        IngestionMetrics metrics = new IngestionMetrics();
+        ParallelOfferingAssembler assembler = new ParallelOfferingAssembler(buildingRegistry, progress, metrics);
+        XlsxSheetStreamer.stream(filePath, termName, assembler, progress, metrics);
+        long buildStart = System.nanoTime();
+        TermSchedule schedule = new TermSchedule(assembler.getOfferings());
+        metrics.recordBuild(System.nanoTime() - buildStart, schedule.allOfferings().size());
+        lastMetrics = metrics;
+        loadedTerms.put(termName, schedule);
+        return schedule;
+    }
+
+    @Override
+    /** Returns the metrics of the most recently loaded term. */
+    public IngestionMetrics getLastMetrics() {
+        return lastMetrics;
+    }
+}
@@ -0,0 +1,230 @@
+package service;
+
+import domain.*;
+import infra.BuildingRegistry;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/** Turns schedule rows into course offerings, independent of how the rows were read. */
+final class OfferingAssembler {
+    private final BuildingRegistry buildingRegistry;
+    private final LoadProgress progress;
+    private final IngestionMetrics metrics;
+    private final Map<String, Course> courseCache = new HashMap<>();
+    private final Map<String, Instructor> instructorCache = new HashMap<>();
+    private final List<CourseOffering> offerings = new ArrayList<>();
+    private final Map<String, CourseOffering> offeringsByCrn = new HashMap<>();
+    private final IngestionPools pools;
+
+    /** Prepares an empty assembly that resolves buildings through the shared registry. */
+    OfferingAssembler(BuildingRegistry buildingRegistry, LoadProgress progress, IngestionMetrics metrics) {
+        this(buildingRegistry, progress, metrics, new IngestionPools());
+    }
+
+    /** Prepares an empty assembly that draws rooms and time slots from the given pools. */
+    OfferingAssembler(BuildingRegistry buildingRegistry,
+                      LoadProgress progress,
+                      IngestionMetrics metrics,
+                      IngestionPools pools) {
+        if (buildingRegistry == null) {
+            throw new IllegalArgumentException("Building registry is required");
+        }
+        if (progress == null) {
+            throw new IllegalArgumentException("Load progress is required");
+        }
+        if (metrics == null) {
+            throw new IllegalArgumentException("Ingestion metrics are required");
+        }
+        this.buildingRegistry = buildingRegistry;
+        this.progress = progress;
+        this.metrics = metrics;
+        this.pools = pools;
+    }
+
+    /** Adds the sessions described by one row, recording rows skipped for lacking a CRN, time slot or room. */
+    void accept(ScheduleRow row) {
+        progress.rowProcessed();
+        String crn = row.getText(ScheduleRow.CRN);
+        if (crn == null || crn.isBlank()) {
+            metrics.recordRejected(IngestionMetrics.RejectReason.BLANK_CRN, row.getRowIndex() + 1);
+            return;
+        }
+
+        String modalityToken = row.getText(ScheduleRow.MODALITY);
+        Course course = getOrCreateCourse(row.getText(ScheduleRow.COURSE_CODE),
+                row.getText(ScheduleRow.TITLE),
+                row.getText(ScheduleRow.DEPARTMENT));
+        Instructor instructor = getOrCreateInstructor(row.getText(ScheduleRow.INSTRUCTOR));
+        DeliveryMode deliveryMode = mapDeliveryMode(modalityToken);
+        ActivityType activityType = mapActivityType(modalityToken);
+
+        TimeSlot timeSlot = createTimeSlot(row.getStartTime(), row.getEndTime());
+        Room room = createRoom(row.getText(ScheduleRow.BUILDING), row.getText(ScheduleRow.ROOM));
+        if (timeSlot == null) {
+            metrics.recordRejected(IngestionMetrics.RejectReason.INVALID_TIME_SLOT, row.getRowIndex() + 1);
+            return;
+        }
+        if (room == null) {
+            metrics.recordRejected(IngestionMetrics.RejectReason.MISSING_BUILDING, row.getRowIndex() + 1);
+            return;
+        }
+
+        String section = row.getText(ScheduleRow.SECTION);
+        CourseOffering offering = offeringsByCrn.computeIfAbsent(crn, key -> {
+            CourseOffering created = new CourseOffering(crn, section, deliveryMode, course, instructor);
+            offerings.add(created);
+            return created;
+        });
+        offering.updateInstructorIfMissing(instructor);
+
+        for (DayOfWeek day : parseDays(row.getText(ScheduleRow.DAYS))) {
+            offering.addSession(new MeetingSession(day, timeSlot, activityType, room));
+        }
+    }
+
+    /**
+     * Appends everything assembled from the rows that directly follow this assembler's rows, as if
+     * they had been accepted here: the first course and instructor seen per key win, offerings keep
+     * their first-row metadata, sessions stay in row order and are rebuilt on this assembler's pooled values.
+     */
+    void absorb(OfferingAssembler later) {
+        later.courseCache.forEach(courseCache::putIfAbsent);
+        later.instructorCache.forEach(instructorCache::putIfAbsent);
+        for (CourseOffering partial : later.offerings) {
+            Instructor instructor = partial.getInstructor() == null
+                    ? null
+                    : instructorCache.get(partial.getInstructor().getName());
+            CourseOffering offering = offeringsByCrn.get(partial.getCrn());
+            if (offering == null) {
+                offering = new CourseOffering(partial.getCrn(),
+                        partial.getSection(),
+                        partial.getDeliveryMode(),
+                        courseCache.get(partial.getCourse().getCode()),
+                        instructor);
+                offeringsByCrn.put(offering.getCrn(), offering);
+                offerings.add(offering);
+            } else {
+                offering.updateInstructorIfMissing(instructor);
+            }
+            for (MeetingSession session : partial.getSessions()) {
+                offering.addSession(pools.rehome(session));
+            }
+        }
+    }
+
+    /** Returns the offerings in the order their CRNs first appeared. */
+    List<CourseOffering> getOfferings() {
+        return offerings;
+    }
+
+    /** Creates a Room object from the building and room code cells. */
+    private Room createRoom(String buildingCode, String roomCode) {
+        if (buildingCode == null || buildingCode.isBlank()) {
+            return null;
+        }
+        Building building = buildingRegistry.getOrCreate(buildingCode.trim());
+        int floor = parseFloor(roomCode);
+        String normalizedRoom = (roomCode == null || roomCode.isBlank()) ? "Unknown" : roomCode.trim();
+        return pools.room(building, normalizedRoom, floor);
+    }
+
+    /** Attempts to infer the floor number from the room string. */
+    private int parseFloor(String roomCode) {
+        if (roomCode == null || roomCode.isBlank()) {
+            return 0;
+        }
+        for (char ch : roomCode.toCharArray()) {
+            if (Character.isDigit(ch)) {
+                return Character.digit(ch, 10);
+            }
+        }
+        return 0;
+    }
+
+    /** Builds a TimeSlot when both start/end values parse correctly. */
+    private TimeSlot createTimeSlot(LocalTime start, LocalTime end) {
+        if (start == null || end == null) {
+            return null;
+        }
+        try {
+            return pools.timeSlot(start, end);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /** Reuses or constructs a Course entity keyed by course code. */
+    private Course getOrCreateCourse(String code, String title, String department) {
+        String normalizedCode = (code == null || code.isBlank()) ? "UNKNOWN" : code.trim();
+        return courseCache.computeIfAbsent(normalizedCode, key -> new Course(
+                normalizedCode,
+                title == null || title.isBlank() ? normalizedCode : title.trim(),
+                department == null || department.isBlank() ? "N/A" : department.trim()
+        ));
+    }
+
+    /** Reuses or constructs an Instructor entity keyed by name (when provided). */
+    private Instructor getOrCreateInstructor(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String normalized = name.trim();
+        return instructorCache.computeIfAbsent(normalized, key -> new Instructor(normalized, null));
+    }
+
+    /** Maps the modality token (LEC/LAB/INT) to the DeliveryMode enum. */
+    private DeliveryMode mapDeliveryMode(String token) {
+        if (token == null) {
+            return DeliveryMode.OTHER;
+        }
+        return switch (token.trim().toUpperCase(Locale.ROOT)) {
+            case "LEC", "LECT" -> DeliveryMode.LECTURE;
+            case "LAB" -> DeliveryMode.LAB;
+            case "COP", "INT" -> DeliveryMode.INTERNSHIP;
+            default -> DeliveryMode.OTHER;
+        };
+    }
+
+    /** Maps the modality token to the ActivityType used by meeting sessions. */
+    private ActivityType mapActivityType(String token) {
+        if (token == null) {
+            return ActivityType.OTHER;
+        }
+        return switch (token.trim().toUpperCase(Locale.ROOT)) {
+            case "LEC", "LECT" -> ActivityType.LECTURE;
+            case "LAB" -> ActivityType.LAB;
+            case "COP", "INT" -> ActivityType.INTERNSHIP;
+            default -> ActivityType.OTHER;
+        };
+    }
+
+    /** Expands a day token like "UT" into the corresponding DayOfWeek values. */
+    private Iterable<DayOfWeek> parseDays(String token) {
+        if (token == null) {
+            return List.of();
+        }
+        List<DayOfWeek> days = new ArrayList<>();
+        for (char ch : token.trim().toUpperCase(Locale.ROOT).toCharArray()) {
+            DayOfWeek mapped = switch (ch) {
+                case 'U' -> DayOfWeek.SUNDAY;
+                case 'M' -> DayOfWeek.MONDAY;
+                case 'T' -> DayOfWeek.TUESDAY;
+                case 'W' -> DayOfWeek.WEDNESDAY;
+                case 'R', 'H' -> DayOfWeek.THURSDAY;
+                case 'F' -> DayOfWeek.FRIDAY;
+                case 'S' -> DayOfWeek.SATURDAY;
+                default -> null;
+            };
+            if (mapped != null) {
+                days.add(mapped);
+            }
+        }
+        return days;
+    }
+}
@@ -0,0 +1,107 @@
+package service;
+
+import domain.CourseOffering;
+import infra.BuildingRegistry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Pipelines row assembly behind a single-threaded reader: rows are copied into fixed-size chunks,
+ * each full chunk is assembled into its own OfferingAssembler on a ForkJoinPool while the reader
+ * keeps going, and the partial results are absorbed in chunk order so the outcome matches one
+ * sequential pass. Only chunks still in flight hold their rows, and the reader waits once more
+ * than two chunks per worker are queued.
+ */
+final class ParallelOfferingAssembler {
+    static final int DEFAULT_CHUNK_ROWS = 2048;
+
+    private final BuildingRegistry buildingRegistry;
+    private final LoadProgress progress;
+    private final IngestionMetrics metrics;
+    private final ForkJoinPool pool;
+    private final int chunkRows;
+    private final int maxInFlight;
+    private final Deque<ForkJoinTask<OfferingAssembler>> pending = new ArrayDeque<>();
+    private List<ScheduleRow> chunk;
+    private OfferingAssembler merged;
+
+    /** Assembles on the common pool in chunks of DEFAULT_CHUNK_ROWS rows. */
+    ParallelOfferingAssembler(BuildingRegistry buildingRegistry, LoadProgress progress, IngestionMetrics metrics) {
+        this(buildingRegistry, progress, metrics, ForkJoinPool.commonPool(), DEFAULT_CHUNK_ROWS);
+    }
+
+    /** Assembles on the given pool in chunks of the given number of rows. */
+    ParallelOfferingAssembler(BuildingRegistry buildingRegistry,
+                              LoadProgress progress,
+                              IngestionMetrics metrics,
+                              ForkJoinPool pool,
+                              int chunkRows) {
+        if (chunkRows <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.buildingRegistry = buildingRegistry;
+        this.progress = progress;
+        this.metrics = metrics;
+        this.pool = pool;
+        this.chunkRows = chunkRows;
+        this.maxInFlight = Math.max(2, pool.getParallelism() * 2);
+        this.merged = new OfferingAssembler(buildingRegistry, progress, metrics);
+        this.chunk = new ArrayList<>(chunkRows);
+    }
+
+    /** Queues a copy of the row, handing the chunk to the pool once it is full. */
+    void accept(ScheduleRow row) {
+        if (progress.isCancelled()) {
+            throw new CancellationException("Schedule load cancelled");
+        }
+        chunk.add(row.copy());
+        if (chunk.size() == chunkRows) {
+            submitChunk();
+            absorbCompleted();
+        }
+    }
+
+    /** Submits the last partial chunk and waits until every chunk has been absorbed. */
+    void finish() {
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!pending.isEmpty()) {
+            merged.absorb(pending.removeFirst().join());
+        }
+    }
+
+    /** Returns the offerings in the order their CRNs first appeared; call after finish. */
+    List<CourseOffering> getOfferings() {
+        return merged.getOfferings();
+    }
+
+    /** Starts assembling the current chunk and begins a new one. */
+    private void submitChunk() {
+        List<ScheduleRow> rows = chunk;
+        chunk = new ArrayList<>(chunkRows);
+        pending.addLast(pool.submit(() -> {
+            OfferingAssembler assembler = new OfferingAssembler(buildingRegistry, progress, metrics);
+            for (ScheduleRow row : rows) {
+                assembler.accept(row);
+            }
+            return assembler;
+        }));
+    }
+
+    /**
+     * Absorbs the finished chunks at the head of the queue so their rows can be collected early,
+     * blocking on the oldest chunk while too many are queued.
+     */
+    private void absorbCompleted() {
+        while (!pending.isEmpty() && (pending.peekFirst().isDone() || pending.size() > maxInFlight)) {
+            merged.absorb(pending.removeFirst().join());
+        }
+    }
+}
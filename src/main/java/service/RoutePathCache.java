@@ -0,0 +1,89 @@
+package service;
+
+import domain.RoutePath;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, thread-safe LRU of computed routes keyed by the ordered building codes of a day.
+ * Entries are only valid for the coordinates and scale they were computed with; the cache
+ * empties itself when either changes. Cached paths are immutable, so every caller and thread can
+ * share them.
+ */
+public class RoutePathCache {
+    private final int capacity;
+    private final Map<List<String>, RoutePath> paths;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private long coordinateVersion = -1;
+    private double metersPerUnit = Double.NaN;
+
+    /** Creates a cache that keeps at most capacity routes, evicting the least recently used. */
+    public RoutePathCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.paths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, RoutePath> eldest) {
+                return size() > RoutePathCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached route for the building sequence or computes and stores it. The route is
+     * computed outside the lock, so two threads missing on the same key may both compute it.
+     */
+    RoutePath getOrCompute(List<String> buildingCodes, long coordinateVersion, double metersPerUnit, Supplier<RoutePath> compute) {
+        synchronized (paths) {
+            if (coordinateVersion != this.coordinateVersion || metersPerUnit != this.metersPerUnit) {
+                paths.clear();
+                this.coordinateVersion = coordinateVersion;
+                this.metersPerUnit = metersPerUnit;
+            }
+            RoutePath cached = paths.get(buildingCodes);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        misses.incrementAndGet();
+        RoutePath computed = compute.get();
+        synchronized (paths) {
+            if (coordinateVersion == this.coordinateVersion && metersPerUnit == this.metersPerUnit) {
+                paths.putIfAbsent(buildingCodes, computed);
+            }
+        }
+        return computed;
+    }
+
+    /** Drops every cached route, e.g. after walkway data changed. */
+    public void clear() {
+        synchronized (paths) {
+            paths.clear();
+        }
+    }
+
+    /** Returns the number of lookups answered from the cache. */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /** Returns the number of lookups that had to compute the route. */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /** Returns the number of routes currently cached. */
+    public int size() {
+        synchronized (paths) {
+            return paths.size();
+        }
+    }
+}
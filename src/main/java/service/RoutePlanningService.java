@@ -7,24 +7,50 @@ import domain.ItineraryEntry;
 import domain.RoutePath;
 import domain.RouteSegment;
 import domain.RouteVisualizationModel;
+import domain.Transfer;
+import domain.TransferPolicy;
+import domain.TransferStatus;
+import domain.WeeklyRouteVisualization;
 
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class RoutePlanningService {
+    private static final int ROUTE_CACHE_SIZE = 4096;
+
     private final DistanceCalculator distanceCalculator;
+    private final WalkwayRouter walkwayRouter;
+    private final TransferPolicy transferPolicy;
+    private final RoutePathCache routeCache = new RoutePathCache(ROUTE_CACHE_SIZE);
 
     /** Collaborates with DistanceCalculator to transform itineraries into draw-ready models. */
     public RoutePlanningService(DistanceCalculator distanceCalculator) {
-        
+        this(distanceCalculator, null);
+    }
+
+    /** Routes legs along walkways when the router knows both buildings, and as straight lines otherwise. */
+    public RoutePlanningService(DistanceCalculator distanceCalculator, WalkwayRouter walkwayRouter) {
+        this(distanceCalculator, walkwayRouter, TransferPolicy.DEFAULT);
+    }
+
+    /** Also sets the walking pace and margin used to judge whether each transfer fits its break. */
+    public RoutePlanningService(DistanceCalculator distanceCalculator, WalkwayRouter walkwayRouter, TransferPolicy transferPolicy) {
         if (distanceCalculator == null) {
             throw new IllegalArgumentException("Distance calculator is required");
         }
+        if (transferPolicy == null) {
+            throw new IllegalArgumentException("Transfer policy is required");
+        }
         this.distanceCalculator = distanceCalculator;
+        this.walkwayRouter = walkwayRouter;
+        this.transferPolicy = transferPolicy;
     }
 
     /** Generates the visualization payload (route + summary) for the given day. */
@@ -32,8 +58,7 @@ public class RoutePlanningService {
         if (itinerary == null) {
             throw new IllegalArgumentException("Itinerary is required");
         }
-        List<ItineraryEntry> orderedEntries = new ArrayList<>(itinerary.getEntries());
-        orderedEntries.sort(java.util.Comparator.comparing(ItineraryEntry::getStartTime));  
+        List<ItineraryEntry> orderedEntries = orderedEntries(itinerary);
 
         RoutePath routePath = buildRoutePath(orderedEntries);
 
@@ -44,15 +69,92 @@ public class RoutePlanningService {
 
         List<Building> uniqueBuildings = new ArrayList<>(new LinkedHashSet<>(routePath.getOrderedBuildings()));  
 
-        List<String> summary = buildSummary(itinerary.getDay(), orderedEntries, uniqueOfferings, uniqueBuildings, routePath.getTotalDistanceMeters());
+        List<Transfer> transfers = assessTransfers(orderedEntries, routePath);
+
+        List<String> summary = buildSummary(itinerary.getDay(), orderedEntries, uniqueOfferings, uniqueBuildings, routePath.getTotalDistanceMeters(), transfers);
 
-        return new RouteVisualizationModel(itinerary.getDay(), new ArrayList<>(uniqueOfferings), uniqueBuildings, routePath, summary);
+        return new RouteVisualizationModel(itinerary.getDay(), new ArrayList<>(uniqueOfferings), uniqueBuildings, routePath, summary, transfers);
     }
 
-    /** Builds an ordered path with segments and total distance from itinerary entries. */
+    /**
+     * Builds the visualization of every day concurrently and adds the weekly distance summary,
+     * so a UI can switch days without recomputing routes.
+     */
+    public WeeklyRouteVisualization buildWeekVisualization(Map<DayOfWeek, DailyItinerary> itineraries) {
+        if (itineraries == null) {
+            throw new IllegalArgumentException("Itineraries are required");
+        }
+        Map<DayOfWeek, RouteVisualizationModel> models = itineraries.values().parallelStream()
+                .filter(itinerary -> !itinerary.getEntries().isEmpty())
+                .map(this::buildVisualization)
+                .collect(Collectors.toMap(RouteVisualizationModel::getDay, model -> model,
+                        (a, b) -> a, () -> new EnumMap<>(DayOfWeek.class)));
+
+        List<String> summary = new ArrayList<>();
+        double totalDistance = 0.0;
+        int infeasible = 0;
+        int tight = 0;
+        for (RouteVisualizationModel model : models.values()) {
+            double distance = model.getRoutePath().getTotalDistanceMeters();
+            totalDistance += distance;
+            summary.add(String.format(Locale.ROOT, "%s: Distance = %.0f m, Buildings = %d",
+                    capitalize(model.getDay()), distance, model.getBuildings().size()));
+            infeasible += countTransfers(model.getTransfers(), TransferStatus.INFEASIBLE);
+            tight += countTransfers(model.getTransfers(), TransferStatus.TIGHT);
+        }
+        summary.add(String.format(Locale.ROOT, "Weekly Distance Traveled = %.0f m", totalDistance));
+        if (infeasible + tight > 0) {
+            summary.add(String.format(Locale.ROOT, "Weekly Risky Transfers = %d infeasible, %d tight", infeasible, tight));
+        }
+        return new WeeklyRouteVisualization(models, summary);
+    }
+
+    /** Computes only the route of the day, skipping the display summary; intended for batch evaluation. */
+    public RoutePath planRoute(DailyItinerary itinerary) {
+        if (itinerary == null) {
+            throw new IllegalArgumentException("Itinerary is required");
+        }
+        return buildRoutePath(orderedEntries(itinerary));
+    }
+
+    /** Copies the itinerary's entries in chronological order. */
+    private List<ItineraryEntry> orderedEntries(DailyItinerary itinerary) {
+        List<ItineraryEntry> orderedEntries = new ArrayList<>(itinerary.getEntries());
+        orderedEntries.sort(ItineraryEntry.BY_START_TIME);
+        return orderedEntries;
+    }
+
+    /** Returns the pace and margin used to judge transfers. */
+    public TransferPolicy getTransferPolicy() {
+        return transferPolicy;
+    }
+
+    /** Exposes the route memo so callers can read its hit/miss counters or clear it. */
+    public RoutePathCache getRouteCache() {
+        return routeCache;
+    }
+
+    /** Returns the memoized route for the entries' building sequence, computing it on a miss. */
     private RoutePath buildRoutePath(List<ItineraryEntry> entries) {
-        RoutePath path = new RoutePath();
+        List<String> buildingCodes = new ArrayList<>(entries.size());
+        for (ItineraryEntry entry : entries) {
+            Building building = entry.getSession().getBuilding();
+            if (building != null) {
+                buildingCodes.add(building.getCode());
+            }
+        }
+        return routeCache.getOrCompute(buildingCodes,
+                distanceCalculator.getCoordinateVersion(),
+                distanceCalculator.getMetersPerUnit(),
+                () -> computeRoutePath(entries));
+    }
+
+    /** Builds an ordered path with segments and total distance from itinerary entries. */
+    private RoutePath computeRoutePath(List<ItineraryEntry> entries) {
+        List<Building> stops = new ArrayList<>(entries.size());
+        List<RouteSegment> segments = new ArrayList<>(Math.max(0, entries.size() - 1));
         Building lastBuilding = null;
+        int lastId = -1;
         double totalDistance = 0.0;
         boolean firstAdded = false;
 
@@ -61,26 +163,99 @@ public class RoutePlanningService {
             if (current == null) {
                 continue;
             }
+            int currentId = distanceCalculator.idOf(current);
 
             if (!firstAdded) {
-                path.addStop(current);
+                stops.add(current);
                 lastBuilding = current;
+                lastId = currentId;
                 firstAdded = true;
                 continue;
             }
 
-            path.addStop(current);
-            if (!sameBuilding(lastBuilding, current)) {
-                double segmentDistance = distanceCalculator.calculate(lastBuilding, current);
-                totalDistance += segmentDistance;
-                path.addSegment(new RouteSegment(lastBuilding, current, segmentDistance));
+            stops.add(current);
+            if (!sameBuilding(lastBuilding, lastId, current, currentId)) {
+                RouteSegment segment = buildSegment(lastBuilding, lastId, current, currentId);
+                totalDistance += segment.getDistanceMeters();
+                segments.add(segment);
             }
             lastBuilding = current;
+            lastId = currentId;
         }
 
-        path.setTotalDistanceMeters(totalDistance);
+        return new RoutePath(stops, segments, totalDistance);
+    }
 
-        return path;
+    /**
+     * Pairs each segment of the path with the two sessions it connects and judges whether the walk
+     * fits the break between them. Mirrors computeRoutePath's skipping, so transfers and segments
+     * line up one-to-one; the annotation stays outside the cached path because the same building
+     * sequence can occur at different times.
+     */
+    private List<Transfer> assessTransfers(List<ItineraryEntry> entries, RoutePath routePath) {
+        List<RouteSegment> segments = routePath.getSegments();
+        List<Transfer> transfers = new ArrayList<>(segments.size());
+        ItineraryEntry previous = null;
+        int previousId = -1;
+        for (ItineraryEntry entry : entries) {
+            Building current = entry.getSession().getBuilding();
+            if (current == null) {
+                continue;
+            }
+            int currentId = distanceCalculator.idOf(current);
+            if (previous != null && transfers.size() < segments.size()
+                    && !sameBuilding(previous.getSession().getBuilding(), previousId, current, currentId)) {
+                RouteSegment segment = segments.get(transfers.size());
+                int walkMinutes = transferPolicy.walkMinutes(segment.getDistanceMeters());
+                int gapMinutes = entry.getSession().getTimeSlot().getStartMinute()
+                        - previous.getSession().getTimeSlot().getEndMinute();
+                transfers.add(new Transfer(previous, entry, segment, walkMinutes, gapMinutes,
+                        transferPolicy.classify(walkMinutes, gapMinutes)));
+            }
+            previous = entry;
+            previousId = currentId;
+        }
+        return transfers;
+    }
+
+    /** Counts the transfers with the given status. */
+    private static int countTransfers(List<Transfer> transfers, TransferStatus status) {
+        int count = 0;
+        for (Transfer transfer : transfers) {
+            if (transfer.getStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Returns the distance planRoute would charge for walking between the two buildings; 0 for the same building. */
+    double legDistanceMeters(Building from, Building to) {
+        int fromId = distanceCalculator.idOf(from);
+        int toId = distanceCalculator.idOf(to);
+        if (sameBuilding(from, fromId, to, toId)) {
+            return 0.0;
+        }
+        return buildSegment(from, fromId, to, toId).getDistanceMeters();
+    }
+
+    /** Returns the leg planRoute would walk between two different buildings. */
+    RouteSegment legSegment(Building from, Building to) {
+        return buildSegment(from, distanceCalculator.idOf(from), to, distanceCalculator.idOf(to));
+    }
+
+    /** Builds one leg, following the walkway graph when possible and the straight line otherwise. */
+    private RouteSegment buildSegment(Building from, int fromId, Building to, int toId) {
+        if (walkwayRouter != null) {
+            RouteSegment routed = walkwayRouter.route(from, to);
+            if (routed != null) {
+                return routed;
+            }
+        }
+        double distance = fromId >= 0 && toId >= 0
+                ? distanceCalculator.calculate(fromId, toId)
+                : distanceCalculator.calculate(from, to);
+        return new RouteSegment(from, to, distance);
     }
 
     /** Formats the textual summary displayed alongside the map. */
@@ -88,7 +263,8 @@ public class RoutePlanningService {
                                       List<ItineraryEntry> orderedEntries,
                                       Set<CourseOffering> offerings,
                                       List<Building> buildings,
-                                      double distanceMeters) {
+                                      double distanceMeters,
+                                      List<Transfer> transfers) {
         List<String> lines = new ArrayList<>();
         lines.add("Selected Day: " + capitalize(day));
         lines.add(String.format(Locale.ROOT, "Number of Courses = %d", offerings.size()));
@@ -107,14 +283,36 @@ public class RoutePlanningService {
         lines.add(String.format(Locale.ROOT, "Number of Different Buildings = %d", new LinkedHashSet<>(buildings).size()));
         lines.add("");
         lines.add(String.format(Locale.ROOT, "Distance Traveled = %.0f m", distanceMeters));
+
+        int infeasible = countTransfers(transfers, TransferStatus.INFEASIBLE);
+        int tight = countTransfers(transfers, TransferStatus.TIGHT);
+        if (infeasible + tight > 0) {
+            lines.add("");
+            lines.add(String.format(Locale.ROOT, "Infeasible Transfers = %d, Tight Transfers = %d", infeasible, tight));
+            for (Transfer transfer : transfers) {
+                if (transfer.isFlagged()) {
+                    lines.add(String.format(Locale.ROOT, "• %s → %s (%s → %s): walk %d min, break %d min%s",
+                            transfer.getFrom().getCourseOffering().getCourse().getCode(),
+                            transfer.getTo().getCourseOffering().getCourse().getCode(),
+                            transfer.getSegment().getFrom().getCode(),
+                            transfer.getSegment().getTo().getCode(),
+                            transfer.getWalkMinutes(),
+                            transfer.getGapMinutes(),
+                            transfer.getStatus() == TransferStatus.INFEASIBLE ? " (infeasible)" : " (tight)"));
+                }
+            }
+        }
         return lines;
     }
 
-    /** Compares building codes case-insensitively to detect repeated stops. */
-    private boolean sameBuilding(Building a, Building b) {
+    /** Detects repeated stops by dense id, comparing codes only for buildings outside the registry. */
+    private boolean sameBuilding(Building a, int aId, Building b, int bId) {
         if (a == null || b == null) {
             return false;
         }
+        if (aId >= 0 && bId >= 0) {
+            return aId == bId;
+        }
         return a.getCode().equalsIgnoreCase(b.getCode());
     }
 
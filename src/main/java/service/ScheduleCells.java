@@ -0,0 +1,110 @@
+package service;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.time.LocalTime;
+import java.util.Locale;
+
+/** Shared cell-value interpretation so every reader turns raw cells into the same row values. */
+final class ScheduleCells {
+    private ScheduleCells() {
+    }
+
+    /** Trims a string cell value. */
+    static String text(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    /** Formats a numeric cell as text, handling numeric CRN values gracefully. */
+    static String numericText(double numericValue) {
+        long longValue = Math.round(numericValue);
+        if (Math.abs(numericValue - longValue) < 0.0001) {
+            return Long.toString(longValue);
+        }
+        return Double.toString(numericValue);
+    }
+
+    /**
+     * Interprets a numeric time cell that may be formatted as Excel time or HHmm digits. Day
+     * fractions are rounded to the nearest minute, since TimeSlot only holds whole minutes.
+     */
+    static LocalTime numericTime(double value, boolean dateFormatted) {
+        if (dateFormatted) {
+            return nearestMinute(DateUtil.getLocalDateTime(value).toLocalTime());
+        }
+        if (value >= 0 && value < 1) {
+            long totalMinutes = Math.min(Math.round(value * 24 * 60), 24 * 60 - 1);
+            return LocalTime.of((int) (totalMinutes / 60), (int) (totalMinutes % 60));
+        }
+        String formatted = String.format(Locale.ROOT, "%04d", (int) Math.round(value));
+        return parseTimeString(formatted);
+    }
+
+    /** Rounds a time to the nearest whole minute, staying within the same day. */
+    static LocalTime nearestMinute(LocalTime time) {
+        LocalTime rounded = time.plusSeconds(30).withSecond(0).withNano(0);
+        return rounded.isBefore(time.withSecond(0).withNano(0)) ? LocalTime.of(23, 59) : rounded;
+    }
+
+    /** Interprets a text time cell such as "0800", "800" or "08:00". */
+    static LocalTime textTime(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        String digits = raw.replace(":", "").trim();
+        if (digits.length() == 3) {
+            digits = "0" + digits;
+        }
+        return parseTimeString(digits);
+    }
+
+    /** Byte-level twin of textTime(String) for delimited files, decoding HHmm without building a String. */
+    static LocalTime textTime(byte[] bytes, int length) {
+        int from = 0;
+        int to = length;
+        while (from < to && (bytes[from] == ':' || (bytes[from] & 0xFF) <= ' ')) {
+            from++;
+        }
+        while (to > from && (bytes[to - 1] == ':' || (bytes[to - 1] & 0xFF) <= ' ')) {
+            to--;
+        }
+        int digits = 0;
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b == ':') {
+                continue;
+            }
+            if (b < '0' || b > '9' || ++digits > 4) {
+                return null;
+            }
+            value = value * 10 + (b - '0');
+        }
+        if (digits != 3 && digits != 4) {
+            return null;
+        }
+        int hour = value / 100;
+        int minute = value % 100;
+        if (hour >= 24 || minute >= 60) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /** Parses a four-character HHmm string into a LocalTime. */
+    static LocalTime parseTimeString(String value) {
+        if (value == null || value.length() != 4) {
+            return null;
+        }
+        try {
+            int hour = Integer.parseInt(value.substring(0, 2));
+            int minute = Integer.parseInt(value.substring(2, 4));
+            if (hour < 0 || hour >= 24 || minute < 0 || minute >= 60) {
+                return null;
+            }
+            return LocalTime.of(hour, minute);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
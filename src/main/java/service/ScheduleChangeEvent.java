@@ -0,0 +1,131 @@
+package service;
+
+import domain.CourseOffering;
+import domain.Instructor;
+import domain.MeetingSession;
+import domain.TermSchedule;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class ScheduleChangeEvent {
+    private final TermSchedule schedule;
+    private final Set<String> addedCrns;
+    private final Set<String> removedCrns;
+    private final Set<String> changedCrns;
+
+    /** Describes which CRNs differ between the previously published schedule and the new one. */
+    public ScheduleChangeEvent(TermSchedule schedule, Set<String> addedCrns, Set<String> removedCrns, Set<String> changedCrns) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("Schedule is required");
+        }
+        if (addedCrns == null || removedCrns == null || changedCrns == null) {
+            throw new IllegalArgumentException("CRN sets cannot be null");
+        }
+        this.schedule = schedule;
+        this.addedCrns = new LinkedHashSet<>(addedCrns);
+        this.removedCrns = new LinkedHashSet<>(removedCrns);
+        this.changedCrns = new LinkedHashSet<>(changedCrns);
+    }
+
+    /** Diffs two schedules by CRN; a null previous schedule reports every CRN as added. */
+    public static ScheduleChangeEvent between(TermSchedule previous, TermSchedule current) {
+        if (current == null) {
+            throw new IllegalArgumentException("Current schedule is required");
+        }
+        Set<String> added = new LinkedHashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+        Set<String> changed = new LinkedHashSet<>();
+        for (CourseOffering offering : current.allOfferings()) {
+            CourseOffering before = previous == null ? null : previous.findByCrn(offering.getCrn());
+            if (before == null) {
+                added.add(offering.getCrn());
+            } else if (!sameOffering(before, offering)) {
+                changed.add(offering.getCrn());
+            }
+        }
+        if (previous != null) {
+            for (CourseOffering offering : previous.allOfferings()) {
+                if (current.findByCrn(offering.getCrn()) == null) {
+                    removed.add(offering.getCrn());
+                }
+            }
+        }
+        return new ScheduleChangeEvent(current, added, removed, changed);
+    }
+
+    /** Returns the newly published schedule. */
+    public TermSchedule getSchedule() {
+        return schedule;
+    }
+
+    /** Lists CRNs that only exist in the new schedule. */
+    public Set<String> getAddedCrns() {
+        return Collections.unmodifiableSet(addedCrns);
+    }
+
+    /** Lists CRNs that no longer exist in the new schedule. */
+    public Set<String> getRemovedCrns() {
+        return Collections.unmodifiableSet(removedCrns);
+    }
+
+    /** Lists CRNs whose metadata or sessions differ between the two schedules. */
+    public Set<String> getChangedCrns() {
+        return Collections.unmodifiableSet(changedCrns);
+    }
+
+    /** Returns every added, removed or changed CRN. */
+    public Set<String> getAffectedCrns() {
+        Set<String> affected = new LinkedHashSet<>(addedCrns);
+        affected.addAll(removedCrns);
+        affected.addAll(changedCrns);
+        return Collections.unmodifiableSet(affected);
+    }
+
+    /** Indicates whether the reload produced no CRN-level differences. */
+    public boolean isEmpty() {
+        return addedCrns.isEmpty() && removedCrns.isEmpty() && changedCrns.isEmpty();
+    }
+
+    /** Compares the values of two offerings with the same CRN, including their sessions in order. */
+    private static boolean sameOffering(CourseOffering a, CourseOffering b) {
+        if (!a.getSection().equals(b.getSection())
+                || a.getDeliveryMode() != b.getDeliveryMode()
+                || !a.getCourse().getCode().equals(b.getCourse().getCode())
+                || !a.getCourse().getTitle().equals(b.getCourse().getTitle())
+                || !a.getCourse().getDepartment().equals(b.getCourse().getDepartment())
+                || !Objects.equals(instructorName(a.getInstructor()), instructorName(b.getInstructor()))) {
+            return false;
+        }
+        List<MeetingSession> left = a.getSessions();
+        List<MeetingSession> right = b.getSessions();
+        if (left.size() != right.size()) {
+            return false;
+        }
+        for (int i = 0; i < left.size(); i++) {
+            if (!sameSession(left.get(i), right.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Compares day, time window, activity and room of two sessions. */
+    private static boolean sameSession(MeetingSession a, MeetingSession b) {
+        return a.getDay() == b.getDay()
+                && a.getActivityType() == b.getActivityType()
+                && a.getTimeSlot().getStartMinute() == b.getTimeSlot().getStartMinute()
+                && a.getTimeSlot().getEndMinute() == b.getTimeSlot().getEndMinute()
+                && a.getRoom().getNumber().equals(b.getRoom().getNumber())
+                && a.getRoom().getFloor() == b.getRoom().getFloor()
+                && a.getBuilding().getCode().equals(b.getBuilding().getCode());
+    }
+
+    /** Returns the instructor name or null when none is assigned. */
+    private static String instructorName(Instructor instructor) {
+        return instructor == null ? null : instructor.getName();
+    }
+}
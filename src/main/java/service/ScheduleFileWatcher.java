@@ -0,0 +1,112 @@
+package service;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class ScheduleFileWatcher implements AutoCloseable {
+    private static final long QUIET_PERIOD_MILLIS = 500;
+
+    private final ExcelScheduleRepository repository;
+    private final Consumer<ScheduleChangeEvent> listener;
+    private final Path fileName;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /** Watches the repository's workbook and reports CRN-level changes after each reload. */
+    public ScheduleFileWatcher(ExcelScheduleRepository repository, Consumer<ScheduleChangeEvent> listener) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository is required");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener is required");
+        }
+        this.repository = repository;
+        this.listener = listener;
+        Path file = repository.getFilePath().toAbsolutePath();
+        this.fileName = file.getFileName();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to watch Excel file: " + file, ex);
+        }
+        this.thread = new Thread(this::watchLoop, "schedule-file-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /** Starts watching on a background daemon thread. */
+    public void start() {
+        thread.start();
+    }
+
+    @Override
+    /** Stops watching; an in-flight reload still completes but is no longer reported. */
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+            // Nothing left to release once the watch service is gone.
+        }
+    }
+
+    /** Waits for changes to the workbook, lets bursts of writes settle, then reloads. */
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean touched = drain(key);
+                while (touched) {
+                    WatchKey next = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        reload();
+                        break;
+                    }
+                    drain(next);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            // Closed by the owner.
+        }
+    }
+
+    /** Consumes the pending events of a key and reports whether any concerned the workbook. */
+    private boolean drain(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (fileName.equals(event.context())) {
+                touched = true;
+            }
+        }
+        key.reset();
+        return touched;
+    }
+
+    /**
+     * Re-ingests the workbook, builds the new schedule's autocomplete index on this thread rather
+     * than on the FX thread at the next keystroke, and notifies the listener when any CRN changed.
+     */
+    private void reload() {
+        ScheduleChangeEvent event;
+        try {
+            event = repository.reload();
+            repository.getTermSchedule().getPrefixIndex();
+        } catch (RuntimeException ex) {
+            // The file may still be mid-write; the next modification event retries.
+            return;
+        }
+        if (!event.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            listener.accept(event);
+        }
+    }
+}
@@ -1,8 +1,27 @@
 package service;
 
+import domain.CourseOffering;
 import domain.TermSchedule;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ScheduleRepository {
     /** Loads or returns the cached term schedule backing the application. */
     TermSchedule getTermSchedule();
+
+    /** Loads or returns the cached schedule, reporting rows and honoring cancellation while loading. */
+    default TermSchedule getTermSchedule(LoadProgress progress) {
+        return getTermSchedule();
+    }
+
+    /** Returns the metrics of the most recent load, or null when the implementation does not record them. */
+    default IngestionMetrics getLastMetrics() {
+        return null;
+    }
+
+    /** Resolves CRNs to offerings; implementations with an index may avoid materializing the whole schedule. */
+    default List<CourseOffering> findOfferingsByCrns(Collection<String> crns) {
+        return getTermSchedule().findAllByCrns(crns);
+    }
 }
@@ -0,0 +1,81 @@
+package service;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/** Mutable holder for the cell values of one schedule row, reused across rows by the readers. */
+final class ScheduleRow {
+    static final int CRN = 1;
+    static final int COURSE_CODE = 2;
+    static final int DEPARTMENT = 3;
+    static final int SECTION = 4;
+    static final int TITLE = 5;
+    static final int MODALITY = 6;
+    static final int DAYS = 7;
+    static final int START_TIME = 8;
+    static final int END_TIME = 9;
+    static final int BUILDING = 10;
+    static final int ROOM = 11;
+    static final int INSTRUCTOR = 12;
+    static final int COLUMN_COUNT = 13;
+
+    private final String[] text = new String[COLUMN_COUNT];
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int rowIndex;
+
+    /** Clears the previous values so the holder can describe the given zero-based sheet row. */
+    void reset(int rowIndex) {
+        Arrays.fill(text, null);
+        this.startTime = null;
+        this.endTime = null;
+        this.rowIndex = rowIndex;
+    }
+
+    /** Returns an independent copy of the values, so the holder can be refilled while the copy is queued. */
+    ScheduleRow copy() {
+        ScheduleRow copy = new ScheduleRow();
+        System.arraycopy(text, 0, copy.text, 0, COLUMN_COUNT);
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.rowIndex = rowIndex;
+        return copy;
+    }
+
+    /** Returns the zero-based sheet row the values were read from. */
+    int getRowIndex() {
+        return rowIndex;
+    }
+
+    /** Stores the trimmed text value of a column, ignoring columns outside the layout. */
+    void setText(int column, String value) {
+        if (column >= 0 && column < COLUMN_COUNT) {
+            text[column] = value;
+        }
+    }
+
+    /** Returns the text value read for a column, or null when the cell was blank. */
+    String getText(int column) {
+        return text[column];
+    }
+
+    /** Stores the parsed start time, or null when the cell could not be interpreted. */
+    void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    /** Returns the parsed start time of the row. */
+    LocalTime getStartTime() {
+        return startTime;
+    }
+
+    /** Stores the parsed end time, or null when the cell could not be interpreted. */
+    void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    /** Returns the parsed end time of the row. */
+    LocalTime getEndTime() {
+        return endTime;
+    }
+}
@@ -4,15 +4,21 @@ import domain.CourseOffering;
 import domain.DailyItinerary;
 import domain.ItineraryEntry;
 import domain.MeetingSession;
-import domain.TermSchedule;
+import domain.OccupancyIndex;
+import domain.TrafficHeatmap;
 
 import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ScheduleService {
     private final ScheduleRepository repository;
@@ -32,8 +38,96 @@ public class ScheduleService {
         if (crns == null) {
             throw new IllegalArgumentException("CRN collection is required");
         }
-        TermSchedule schedule = repository.getTermSchedule();
-        return schedule.findAllByCrns(crns);
+        return repository.findOfferingsByCrns(crns);
+    }
+
+    /** Lists every section of the course with the given code, in schedule order. */
+    public List<CourseOffering> findSections(String courseCode) {
+        return repository.getTermSchedule().getIndex().sectionsOf(courseCode);
+    }
+
+    /**
+     * Finds offerings that meet on the day, use the building, are taught by the instructor and belong
+     * to the course, using the schedule's secondary indexes; null criteria match everything.
+     */
+    public List<CourseOffering> findOfferings(DayOfWeek day, String buildingCode, String instructorName, String courseCode) {
+        return repository.getTermSchedule().getIndex().findOfferings(day, buildingCode, instructorName, courseCode);
+    }
+
+    /**
+     * Lists the offerings and sessions that overlap [from, to) on the day in the building, or only
+     * in the given room when roomNumber is not null.
+     */
+    public List<ItineraryEntry> getOccupancy(String buildingCode, String roomNumber, DayOfWeek day, LocalTime from, LocalTime to) {
+        OccupancyIndex index = repository.getTermSchedule().getOccupancyIndex();
+        return roomNumber == null
+                ? index.sessionsInBuilding(buildingCode, day, from, to)
+                : index.sessionsInRoom(buildingCode, roomNumber, day, from, to);
+    }
+
+    /** Lists the offerings and sessions in progress in the building at the given instant on the day. */
+    public List<ItineraryEntry> getSessionsInProgress(String buildingCode, DayOfWeek day, LocalTime at) {
+        return repository.getTermSchedule().getOccupancyIndex().sessionsInBuildingAt(buildingCode, day, at);
+    }
+
+    /**
+     * Finds the earliest time at or after from when the building, or the room when roomNumber is
+     * not null, stays free for the given minutes; returns null when the day has no such gap.
+     */
+    public LocalTime findNextFreeSlot(String buildingCode, String roomNumber, DayOfWeek day, LocalTime from, int minutes) {
+        OccupancyIndex index = repository.getTermSchedule().getOccupancyIndex();
+        return roomNumber == null
+                ? index.nextFreeSlotInBuilding(buildingCode, day, from, minutes)
+                : index.nextFreeSlotInRoom(buildingCode, roomNumber, day, from, minutes);
+    }
+
+    /** Suggests up to limit offerings whose CRN, course code or title word starts with the prefix. */
+    public List<CourseOffering> suggestOfferings(String prefix, int limit) {
+        return repository.getTermSchedule().getPrefixIndex().suggest(prefix, limit);
+    }
+
+    /**
+     * Measures every student's route for each day of the week on one worker per core, pulling
+     * students from the stream only as workers free up and handing each result to the sink as it
+     * completes; returns the number of students evaluated.
+     */
+    public long evaluateRoutes(Stream<StudentSchedule> students,
+                               RoutePlanningService routePlanningService,
+                               Consumer<StudentRouteResult> sink) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return new BatchRouteEvaluator(this, routePlanningService, parallelism).run(students, sink);
+    }
+
+    /**
+     * Picks one section of each course so the week's walk is as short as possible and returns up to
+     * k conflict-free combinations, shortest first; the search runs in parallel.
+     */
+    public List<SectionCombination> findBestSections(Collection<String> courseCodes,
+                                                     RoutePlanningService routePlanningService,
+                                                     int k) {
+        return new SectionOptimizer(this, routePlanningService).findBest(courseCodes, k);
+    }
+
+    /**
+     * Scans every student's week for transfers whose walk, at the route planner's pace, does not
+     * fit or barely fits the break, and returns the riskiest ones campus-wide with how many
+     * students make each; the scan runs in parallel.
+     */
+    public List<TransferRisk> findRiskiestTransfers(Stream<StudentSchedule> students,
+                                                    RoutePlanningService routePlanningService,
+                                                    int limit) {
+        return new TransferRiskScanner(repository.getTermSchedule(), routePlanningService).scan(students, limit);
+    }
+
+    /**
+     * Counts how many students walk each building-to-building leg at every class change of the
+     * week, in buckets of the given width; the scan runs in parallel and the result can be
+     * replayed bucket by bucket without recomputation.
+     */
+    public TrafficHeatmap buildTrafficHeatmap(Stream<StudentSchedule> students,
+                                              RoutePlanningService routePlanningService,
+                                              int bucketMinutes) {
+        return new TrafficAggregator(repository.getTermSchedule(), routePlanningService, bucketMinutes).aggregate(students);
     }
 
     /** Builds a day itinerary by first resolving the CRNs. */
@@ -50,6 +144,9 @@ public class ScheduleService {
         List<ItineraryEntry> entries = new ArrayList<>();
         
         for (CourseOffering offering : offerings) {
+            if (!offering.meetsOn(day)) {
+                continue;
+            }
             for (MeetingSession session : offering.getSessionsByDay(day)) {
                 entries.add(new ItineraryEntry(offering, session));
             }
@@ -60,6 +157,30 @@ public class ScheduleService {
         return itinerary;
     }
 
+    /**
+     * Buckets every session of the offerings by day in a single pass and returns the chronologically
+     * sorted itinerary of each day that has at least one session.
+     */
+    public Map<DayOfWeek, DailyItinerary> getWeeklyItineraries(Collection<CourseOffering> offerings) {
+        if (offerings == null) {
+            throw new IllegalArgumentException("Offerings collection is required");
+        }
+        Map<DayOfWeek, List<ItineraryEntry>> entriesByDay = new EnumMap<>(DayOfWeek.class);
+        for (CourseOffering offering : offerings) {
+            for (MeetingSession session : offering.getSessions()) {
+                entriesByDay.computeIfAbsent(session.getDay(), key -> new ArrayList<>())
+                        .add(new ItineraryEntry(offering, session));
+            }
+        }
+        Map<DayOfWeek, DailyItinerary> itineraries = new EnumMap<>(DayOfWeek.class);
+        entriesByDay.forEach((day, entries) -> {
+            DailyItinerary itinerary = new DailyItinerary(day, entries);
+            itinerary.sortByStartTime();
+            itineraries.put(day, itinerary);
+        });
+        return itineraries;
+    }
+
     /** Lists unique course codes present in the supplied offerings. */
     public List<String> listCourseCodes(Collection<CourseOffering> offerings) {
         if (offerings == null) {
@@ -0,0 +1,39 @@
+package service;
+
+import domain.CourseOffering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SectionCombination {
+    private final List<CourseOffering> offerings;
+    private final double weeklyDistanceMeters;
+
+    /** Captures one conflict-free choice of sections, one per requested course, with its weekly walking distance. */
+    public SectionCombination(List<CourseOffering> offerings, double weeklyDistanceMeters) {
+        if (offerings == null) {
+            throw new IllegalArgumentException("Offerings are required");
+        }
+        if (weeklyDistanceMeters < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+        this.offerings = new ArrayList<>(offerings);
+        this.weeklyDistanceMeters = weeklyDistanceMeters;
+    }
+
+    /** Returns the chosen sections in the order the courses were requested. */
+    public List<CourseOffering> getOfferings() {
+        return Collections.unmodifiableList(offerings);
+    }
+
+    /** Returns the CRNs of the chosen sections. */
+    public List<String> getCrns() {
+        return offerings.stream().map(CourseOffering::getCrn).toList();
+    }
+
+    /** Returns the walking distance summed over every day of the week. */
+    public double getWeeklyDistanceMeters() {
+        return weeklyDistanceMeters;
+    }
+}
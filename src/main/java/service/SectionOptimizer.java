@@ -0,0 +1,489 @@
+package service;
+
+import domain.Building;
+import domain.CourseOffering;
+import domain.MeetingSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Picks one section per requested course so that the week's walking distance is as small as
+ * possible. The search is a branch-and-bound over sections: sessions that overlap prune a branch
+ * immediately, and a partial choice is abandoned once its lower bound exceeds the k-th best
+ * complete choice found so far. Walkway legs and straight-line fallbacks mixed together need not
+ * obey the triangle inequality, so the bound is walked over the shortest-path closure of the leg
+ * matrix, where adding a stop never shortens a route. Ties on distance are broken by the CRNs,
+ * so the result does not depend on which subtree finishes first. Subtrees below the first levels
+ * are explored in parallel on a ForkJoinPool.
+ */
+public class SectionOptimizer {
+    private static final int SPLIT_DEPTH = 2;
+    private static final int DAY_COUNT = 7;
+
+    private final ScheduleService scheduleService;
+    private final RoutePlanningService routePlanningService;
+    private final ForkJoinPool pool;
+
+    /** Creates an optimizer that explores subtrees on the common pool. */
+    public SectionOptimizer(ScheduleService scheduleService, RoutePlanningService routePlanningService) {
+        this(scheduleService, routePlanningService, ForkJoinPool.commonPool());
+    }
+
+    /** Creates an optimizer that explores subtrees on the given pool. */
+    public SectionOptimizer(ScheduleService scheduleService, RoutePlanningService routePlanningService, ForkJoinPool pool) {
+        if (scheduleService == null) {
+            throw new IllegalArgumentException("Schedule service is required");
+        }
+        if (routePlanningService == null) {
+            throw new IllegalArgumentException("Route planning service is required");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork/join pool is required");
+        }
+        this.scheduleService = scheduleService;
+        this.routePlanningService = routePlanningService;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns up to k conflict-free section combinations for the course codes, shortest weekly
+     * walk first; the list is empty when a course has no sections or every combination conflicts.
+     */
+    public List<SectionCombination> findBest(Collection<String> courseCodes, int k) {
+        if (courseCodes == null) {
+            throw new IllegalArgumentException("Course codes are required");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("Result count must be positive");
+        }
+        List<String> codes = courseCodes.stream()
+                .filter(code -> code != null && !code.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("At least one course code is required");
+        }
+        List<List<CourseOffering>> sections = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            List<CourseOffering> found = scheduleService.findSections(code);
+            if (found.isEmpty()) {
+                return List.of();
+            }
+            sections.add(found);
+        }
+
+        Problem problem = new Problem(sections, routePlanningService);
+        TopK best = new TopK(k);
+        pool.invoke(new RootTask(problem, best));
+
+        List<SectionCombination> results = new ArrayList<>();
+        for (Candidate candidate : best.sorted()) {
+            results.add(new SectionCombination(Arrays.asList(problem.inCourseOrder(candidate.choice())), candidate.distance()));
+        }
+        return results;
+    }
+
+    /**
+     * Immutable, primitive view of the search: candidate sections with their sessions as day,
+     * start minute and building index arrays, conflict lists, the leg-distance matrix and its
+     * shortest-path closure.
+     */
+    private static final class Problem {
+        private final int[] courseOrder;
+        private final int[][] sectionsByLevel;
+        private final CourseOffering[] offerings;
+        private final int[][] sessionDays;
+        private final int[][] sessionStarts;
+        private final int[][] sessionBuildings;
+        private final int[][] conflicts;
+        private final double[] legs;
+        private final double[] boundLegs;
+        private final int buildingCount;
+        private final int maxSessions;
+
+        /** Flattens the candidate sections and precomputes conflicts and leg distances. */
+        private Problem(List<List<CourseOffering>> sections, RoutePlanningService routePlanningService) {
+            List<CourseOffering> all = new ArrayList<>();
+            int[][] idsByCourse = new int[sections.size()][];
+            for (int course = 0; course < sections.size(); course++) {
+                idsByCourse[course] = new int[sections.get(course).size()];
+                for (int i = 0; i < idsByCourse[course].length; i++) {
+                    idsByCourse[course][i] = all.size();
+                    all.add(sections.get(course).get(i));
+                }
+            }
+            offerings = all.toArray(new CourseOffering[0]);
+
+            Map<Building, Integer> buildingIndex = new HashMap<>();
+            List<Building> buildings = new ArrayList<>();
+            sessionDays = new int[offerings.length][];
+            sessionStarts = new int[offerings.length][];
+            sessionBuildings = new int[offerings.length][];
+            int longest = 0;
+            for (int id = 0; id < offerings.length; id++) {
+                List<MeetingSession> sessions = offerings[id].getSessions();
+                longest = Math.max(longest, sessions.size());
+                sessionDays[id] = new int[sessions.size()];
+                sessionStarts[id] = new int[sessions.size()];
+                sessionBuildings[id] = new int[sessions.size()];
+                for (int s = 0; s < sessions.size(); s++) {
+                    MeetingSession session = sessions.get(s);
+                    sessionDays[id][s] = session.getDay().ordinal();
+                    sessionStarts[id][s] = session.getTimeSlot().getStartMinute();
+                    sessionBuildings[id][s] = buildingIndex.computeIfAbsent(session.getBuilding(), building -> {
+                        buildings.add(building);
+                        return buildings.size() - 1;
+                    });
+                }
+            }
+            maxSessions = longest;
+            buildingCount = buildings.size();
+            legs = new double[buildingCount * buildingCount];
+            for (int from = 0; from < buildingCount; from++) {
+                for (int to = 0; to < buildingCount; to++) {
+                    legs[from * buildingCount + to] = from == to
+                            ? 0.0
+                            : routePlanningService.legDistanceMeters(buildings.get(from), buildings.get(to));
+                }
+            }
+            boundLegs = shortestPaths(legs, buildingCount);
+
+            int[] courseOfCandidate = new int[offerings.length];
+            for (int course = 0; course < idsByCourse.length; course++) {
+                for (int id : idsByCourse[course]) {
+                    courseOfCandidate[id] = course;
+                }
+            }
+            conflicts = new int[offerings.length][];
+            for (int a = 0; a < offerings.length; a++) {
+                List<Integer> clashing = new ArrayList<>();
+                for (int b = 0; b < offerings.length; b++) {
+                    if (courseOfCandidate[a] != courseOfCandidate[b] && overlap(offerings[a], offerings[b])) {
+                        clashing.add(b);
+                    }
+                }
+                conflicts[a] = clashing.stream().mapToInt(Integer::intValue).toArray();
+            }
+
+            // Fewest sections first keeps the tree narrow near the root; within a course, the
+            // section that walks least on its own is tried first so good bounds appear early.
+            Integer[] order = new Integer[idsByCourse.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(course -> idsByCourse[course].length));
+            courseOrder = new int[order.length];
+            sectionsByLevel = new int[order.length][];
+            for (int level = 0; level < order.length; level++) {
+                courseOrder[level] = order[level];
+                sectionsByLevel[level] = Arrays.stream(idsByCourse[order[level]])
+                        .boxed()
+                        .sorted(Comparator.comparingDouble(this::standaloneDistance))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+
+        /** Checks whether any pair of sessions of the two offerings collide on the same day. */
+        private boolean overlap(CourseOffering a, CourseOffering b) {
+            if ((a.getDayMask() & b.getDayMask()) == 0) {
+                return false;
+            }
+            for (MeetingSession left : a.getSessions()) {
+                for (MeetingSession right : b.getSessions()) {
+                    if (left.getDay() == right.getDay() && left.getTimeSlot().overlaps(right.getTimeSlot())) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** Returns the weekly distance of a section taken on its own. */
+        private double standaloneDistance(int candidate) {
+            SearchState state = new SearchState(this, 1);
+            state.add(candidate, 0);
+            return state.distance;
+        }
+
+        /** Returns the leg distance between two building indexes, or 0 when either end is missing. */
+        private double leg(int from, int to) {
+            return from < 0 || to < 0 ? 0.0 : legs[from * buildingCount + to];
+        }
+
+        /** Returns the shortest-path distance between two building indexes, or 0 when either end is missing. */
+        private double boundLeg(int from, int to) {
+            return from < 0 || to < 0 ? 0.0 : boundLegs[from * buildingCount + to];
+        }
+
+        /** Maps a choice by search level back to the sections in the order the courses were requested. */
+        private CourseOffering[] inCourseOrder(int[] choice) {
+            CourseOffering[] chosen = new CourseOffering[choice.length];
+            for (int level = 0; level < choice.length; level++) {
+                chosen[courseOrder[level]] = offerings[choice[level]];
+            }
+            return chosen;
+        }
+
+        /** Returns the CRNs of a choice in requested course order, joined as the tie-break key. */
+        private String crnKey(int[] choice) {
+            StringJoiner key = new StringJoiner(",");
+            for (CourseOffering offering : inCourseOrder(choice)) {
+                key.add(offering.getCrn());
+            }
+            return key.toString();
+        }
+
+        /** Relaxes the leg matrix through every intermediate building so it obeys the triangle inequality. */
+        private static double[] shortestPaths(double[] legs, int count) {
+            double[] closure = legs.clone();
+            for (int via = 0; via < count; via++) {
+                for (int from = 0; from < count; from++) {
+                    double toVia = closure[from * count + via];
+                    for (int to = 0; to < count; to++) {
+                        double through = toVia + closure[via * count + to];
+                        if (through < closure[from * count + to]) {
+                            closure[from * count + to] = through;
+                        }
+                    }
+                }
+            }
+            return closure;
+        }
+    }
+
+    /** Mutable per-task search state: each day's stops ordered by start minute, the running distance and its lower bound. */
+    private static final class SearchState {
+        private final Problem problem;
+        private final int[][] dayStarts = new int[DAY_COUNT][];
+        private final int[][] dayBuildings = new int[DAY_COUNT][];
+        private final int[] daySizes = new int[DAY_COUNT];
+        private final int[] conflictCounts;
+        private final int[] choice;
+        private final int[][] insertedAt;
+        private final double[] distanceBefore;
+        private final double[] boundBefore;
+        private double distance;
+        private double bound;
+
+        /** Sizes the buffers for the given number of levels. */
+        private SearchState(Problem problem, int levels) {
+            this.problem = problem;
+            for (int day = 0; day < DAY_COUNT; day++) {
+                dayStarts[day] = new int[levels * problem.maxSessions];
+                dayBuildings[day] = new int[levels * problem.maxSessions];
+            }
+            conflictCounts = new int[problem.offerings.length];
+            choice = new int[levels];
+            insertedAt = new int[levels][problem.maxSessions];
+            distanceBefore = new double[levels];
+            boundBefore = new double[levels];
+        }
+
+        /** Indicates whether the candidate collides with nothing chosen so far. */
+        private boolean isFree(int candidate) {
+            return conflictCounts[candidate] == 0;
+        }
+
+        /** Chooses the candidate at the level, inserting its sessions and updating distance and bound by local deltas. */
+        private void add(int candidate, int level) {
+            choice[level] = candidate;
+            distanceBefore[level] = distance;
+            boundBefore[level] = bound;
+            int[] days = problem.sessionDays[candidate];
+            int[] starts = problem.sessionStarts[candidate];
+            int[] buildings = problem.sessionBuildings[candidate];
+            for (int s = 0; s < days.length; s++) {
+                int day = days[s];
+                int size = daySizes[day];
+                int[] dayStart = dayStarts[day];
+                int[] dayBuilding = dayBuildings[day];
+                int position = size;
+                while (position > 0 && dayStart[position - 1] > starts[s]) {
+                    position--;
+                }
+                int previous = position > 0 ? dayBuilding[position - 1] : -1;
+                int next = position < size ? dayBuilding[position] : -1;
+                distance += problem.leg(previous, buildings[s]) + problem.leg(buildings[s], next)
+                        - problem.leg(previous, next);
+                bound += problem.boundLeg(previous, buildings[s]) + problem.boundLeg(buildings[s], next)
+                        - problem.boundLeg(previous, next);
+                System.arraycopy(dayStart, position, dayStart, position + 1, size - position);
+                System.arraycopy(dayBuilding, position, dayBuilding, position + 1, size - position);
+                dayStart[position] = starts[s];
+                dayBuilding[position] = buildings[s];
+                daySizes[day] = size + 1;
+                insertedAt[level][s] = position;
+            }
+            for (int clash : problem.conflicts[candidate]) {
+                conflictCounts[clash]++;
+            }
+        }
+
+        /** Undoes add for the level, removing its sessions in reverse order. */
+        private void remove(int level) {
+            int candidate = choice[level];
+            int[] days = problem.sessionDays[candidate];
+            for (int s = days.length - 1; s >= 0; s--) {
+                int day = days[s];
+                int position = insertedAt[level][s];
+                int size = daySizes[day] - 1;
+                System.arraycopy(dayStarts[day], position + 1, dayStarts[day], position, size - position);
+                System.arraycopy(dayBuildings[day], position + 1, dayBuildings[day], position, size - position);
+                daySizes[day] = size;
+            }
+            for (int clash : problem.conflicts[candidate]) {
+                conflictCounts[clash]--;
+            }
+            distance = distanceBefore[level];
+            bound = boundBefore[level];
+        }
+
+        /** Depth-first branch-and-bound from the level down to a complete choice. */
+        private void search(int level, TopK best) {
+            if (bound > best.threshold()) {
+                return;
+            }
+            if (level == choice.length) {
+                best.offer(distance, choice.clone(), problem);
+                return;
+            }
+            for (int candidate : problem.sectionsByLevel[level]) {
+                if (!isFree(candidate)) {
+                    continue;
+                }
+                add(candidate, level);
+                search(level + 1, best);
+                remove(level);
+            }
+        }
+    }
+
+    /** Enumerates the conflict-free choices of the first levels and explores each subtree as its own task. */
+    private static final class RootTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Problem problem;
+        private final transient TopK best;
+
+        /** Binds the problem and the shared result holder. */
+        private RootTask(Problem problem, TopK best) {
+            this.problem = problem;
+            this.best = best;
+        }
+
+        @Override
+        /** Forks one subtree task per prefix and waits for all of them. */
+        protected void compute() {
+            int levels = problem.sectionsByLevel.length;
+            int split = Math.min(SPLIT_DEPTH, levels);
+            List<SubtreeTask> tasks = new ArrayList<>();
+            collectPrefixes(new SearchState(problem, levels), 0, split, tasks);
+            invokeAll(tasks);
+        }
+
+        /** Walks the first levels and records every conflict-free prefix. */
+        private void collectPrefixes(SearchState state, int level, int split, List<SubtreeTask> tasks) {
+            if (level == split) {
+                tasks.add(new SubtreeTask(problem, best, Arrays.copyOf(state.choice, split)));
+                return;
+            }
+            for (int candidate : problem.sectionsByLevel[level]) {
+                if (state.isFree(candidate)) {
+                    state.add(candidate, level);
+                    collectPrefixes(state, level + 1, split, tasks);
+                    state.remove(level);
+                }
+            }
+        }
+    }
+
+    /** Searches every completion of one fixed prefix with its own state. */
+    private static final class SubtreeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Problem problem;
+        private final transient TopK best;
+        private final int[] prefix;
+
+        /** Binds the prefix whose subtree this task owns. */
+        private SubtreeTask(Problem problem, TopK best, int[] prefix) {
+            this.problem = problem;
+            this.best = best;
+            this.prefix = prefix;
+        }
+
+        @Override
+        /** Replays the prefix and runs the sequential branch-and-bound below it. */
+        protected void compute() {
+            SearchState state = new SearchState(problem, problem.sectionsByLevel.length);
+            for (int level = 0; level < prefix.length; level++) {
+                state.add(prefix[level], level);
+            }
+            state.search(prefix.length, best);
+        }
+    }
+
+    /** One complete choice, as candidate ids by search level, with its weekly distance and CRN tie-break key. */
+    private record Candidate(double distance, int[] choice, String crns) {
+        private static final Comparator<Candidate> BEST_FIRST =
+                Comparator.comparingDouble(Candidate::distance).thenComparing(Candidate::crns);
+    }
+
+    /**
+     * Thread-safe holder of the k best choices under distance, then CRNs; its threshold is the bound
+     * every task prunes against. Only bounds strictly above it are pruned, so a choice that ties the
+     * k-th best still reaches offer and the CRN order decides, whatever the task timing.
+     */
+    private static final class TopK {
+        private final int k;
+        private final PriorityQueue<Candidate> worstFirst = new PriorityQueue<>(Candidate.BEST_FIRST.reversed());
+        private volatile double threshold = Double.POSITIVE_INFINITY;
+
+        /** Creates an empty holder for k results. */
+        private TopK(int k) {
+            this.k = k;
+        }
+
+        /** Returns the distance a partial choice must stay below to still matter. */
+        private double threshold() {
+            return threshold;
+        }
+
+        /** Keeps the choice when it beats the current k-th best. */
+        private synchronized void offer(double distance, int[] choice, Problem problem) {
+            if (worstFirst.size() == k && distance > worstFirst.peek().distance()) {
+                return;
+            }
+            Candidate candidate = new Candidate(distance, choice, problem.crnKey(choice));
+            if (worstFirst.size() == k) {
+                if (Candidate.BEST_FIRST.compare(candidate, worstFirst.peek()) >= 0) {
+                    return;
+                }
+                worstFirst.poll();
+            }
+            worstFirst.add(candidate);
+            if (worstFirst.size() == k) {
+                threshold = worstFirst.peek().distance();
+            }
+        }
+
+        /** Returns the kept choices, shortest first. */
+        private synchronized List<Candidate> sorted() {
+            List<Candidate> result = new ArrayList<>(worstFirst);
+            result.sort(Candidate.BEST_FIRST);
+            return result;
+        }
+    }
+}
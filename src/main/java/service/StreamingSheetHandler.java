@@ -0,0 +1,195 @@
+package service;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * SAX handler over a worksheet part that fills one reusable ScheduleRow per sheet row and hands
+ * it to a callback, so memory stays flat regardless of how many rows the sheet holds.
+ */
+final class StreamingSheetHandler extends DefaultHandler {
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final Consumer<ScheduleRow> rowCallback;
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+    private final ScheduleRow row = new ScheduleRow();
+    private final StringBuilder value = new StringBuilder();
+    private final StringBuilder formula = new StringBuilder();
+
+    private int rowIndex = -1;
+    private int columnIndex = -1;
+    private String cellType;
+    private int styleIndex;
+    private boolean hasValue;
+    private boolean hasFormula;
+    private boolean collectingValue;
+    private boolean collectingFormula;
+    private boolean inInlineString;
+
+    /** Wires the lookup tables of the workbook and the consumer invoked for each data row. */
+    StreamingSheetHandler(SharedStrings sharedStrings, StylesTable styles, Consumer<ScheduleRow> rowCallback) {
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.rowCallback = rowCallback;
+    }
+
+    @Override
+    /** Tracks row and cell boundaries and starts collecting value or formula text. */
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName(localName, qName)) {
+            case "row" -> {
+                String reference = attributes.getValue("r");
+                rowIndex = reference == null ? rowIndex + 1 : Integer.parseInt(reference) - 1;
+                columnIndex = -1;
+                row.reset(rowIndex);
+            }
+            case "c" -> {
+                String reference = attributes.getValue("r");
+                columnIndex = reference == null ? columnIndex + 1 : columnOf(reference);
+                cellType = attributes.getValue("t");
+                String style = attributes.getValue("s");
+                styleIndex = style == null ? 0 : Integer.parseInt(style);
+                value.setLength(0);
+                formula.setLength(0);
+                hasValue = false;
+                hasFormula = false;
+            }
+            case "v" -> {
+                collectingValue = true;
+                hasValue = true;
+            }
+            case "f" -> {
+                collectingFormula = true;
+                hasFormula = true;
+            }
+            case "is" -> inInlineString = true;
+            case "t" -> {
+                if (inInlineString) {
+                    collectingValue = true;
+                    hasValue = true;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    /** Completes cells and rows, handing finished data rows to the callback. */
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName(localName, qName)) {
+            case "v", "t" -> collectingValue = false;
+            case "f" -> collectingFormula = false;
+            case "is" -> inInlineString = false;
+            case "c" -> completeCell();
+            case "row" -> {
+                if (rowIndex >= 1) {
+                    rowCallback.accept(row);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    /** Buffers character data for the element currently being collected. */
+    public void characters(char[] ch, int start, int length) {
+        if (collectingValue) {
+            value.append(ch, start, length);
+        } else if (collectingFormula) {
+            formula.append(ch, start, length);
+        }
+    }
+
+    /** Stores the finished cell into the row using the same rules as the in-memory reader. */
+    private void completeCell() {
+        if (columnIndex < 0 || columnIndex >= ScheduleRow.COLUMN_COUNT) {
+            return;
+        }
+        boolean timeColumn = columnIndex == ScheduleRow.START_TIME || columnIndex == ScheduleRow.END_TIME;
+        if (hasFormula) {
+            if (!timeColumn) {
+                row.setText(columnIndex, formula.toString().trim());
+            }
+            return;
+        }
+        if (!hasValue) {
+            return;
+        }
+        String raw = value.toString();
+        if (cellType == null || "n".equals(cellType)) {
+            if (raw.isBlank()) {
+                return;
+            }
+            double numericValue = Double.parseDouble(raw);
+            if (columnIndex == ScheduleRow.START_TIME) {
+                row.setStartTime(ScheduleCells.numericTime(numericValue, isDateFormatted(numericValue)));
+            } else if (columnIndex == ScheduleRow.END_TIME) {
+                row.setEndTime(ScheduleCells.numericTime(numericValue, isDateFormatted(numericValue)));
+            } else {
+                row.setText(columnIndex, ScheduleCells.numericText(numericValue));
+            }
+            return;
+        }
+        String text = switch (cellType) {
+            case "s" -> sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString();
+            case "b" -> "1".equals(raw.trim()) ? "TRUE" : "FALSE";
+            default -> raw;
+        };
+        boolean stringCell = "s".equals(cellType) || "inlineStr".equals(cellType) || "str".equals(cellType);
+        if (columnIndex == ScheduleRow.START_TIME) {
+            row.setStartTime(stringCell ? ScheduleCells.textTime(text) : null);
+        } else if (columnIndex == ScheduleRow.END_TIME) {
+            row.setEndTime(stringCell ? ScheduleCells.textTime(text) : null);
+        } else {
+            row.setText(columnIndex, ScheduleCells.text(text));
+        }
+    }
+
+    /** Mirrors DateUtil.isCellDateFormatted using the cell's style index from the styles table. */
+    private boolean isDateFormatted(double numericValue) {
+        if (!DateUtil.isValidExcelDate(numericValue)) {
+            return false;
+        }
+        return dateStyles.computeIfAbsent(styleIndex, index -> {
+            XSSFCellStyle style = styles == null ? null : styles.getStyleAt(index);
+            if (style == null) {
+                return false;
+            }
+            String format = style.getDataFormatString();
+            return format != null && DateUtil.isADateFormat(style.getDataFormat(), format);
+        });
+    }
+
+    /** Converts the letter part of an A1-style reference into a zero-based column index. */
+    private static int columnOf(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char ch = reference.charAt(i);
+            if (ch < 'A' || ch > 'Z') {
+                break;
+            }
+            column = column * 26 + (ch - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /** Resolves the element name whether or not the parser is namespace aware. */
+    private static String localName(String localName, String qName) {
+        if (localName != null && !localName.isEmpty()) {
+            return localName;
+        }
+        int colon = qName.indexOf(':');
+        return colon < 0 ? qName : qName.substring(colon + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package service;
+
+import java.time.DayOfWeek;
+
+public class StudentRouteResult {
+    private final String studentId;
+    private final int missingCrnCount;
+    private final double[] distanceMeters;
+    private final int[] buildingCounts;
+    private final int[] offeringCounts;
+
+    /** Holds the per-day route metrics of one student, indexed by DayOfWeek ordinal. */
+    StudentRouteResult(String studentId, int missingCrnCount, double[] distanceMeters, int[] buildingCounts, int[] offeringCounts) {
+        this.studentId = studentId;
+        this.missingCrnCount = missingCrnCount;
+        this.distanceMeters = distanceMeters;
+        this.buildingCounts = buildingCounts;
+        this.offeringCounts = offeringCounts;
+    }
+
+    /** Returns the student identifier. */
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /** Returns how many of the student's CRNs were not found in the schedule. */
+    public int getMissingCrnCount() {
+        return missingCrnCount;
+    }
+
+    /** Returns the walking distance on the day in meters. */
+    public double getDistanceMeters(DayOfWeek day) {
+        return distanceMeters[day.ordinal()];
+    }
+
+    /** Returns the number of distinct buildings visited on the day. */
+    public int getBuildingCount(DayOfWeek day) {
+        return buildingCounts[day.ordinal()];
+    }
+
+    /** Returns the number of distinct offerings that meet on the day. */
+    public int getOfferingCount(DayOfWeek day) {
+        return offeringCounts[day.ordinal()];
+    }
+
+    /** Returns the walking distance summed over the week in meters. */
+    public double getTotalDistanceMeters() {
+        double total = 0.0;
+        for (double distance : distanceMeters) {
+            total += distance;
+        }
+        return total;
+    }
+
+    /** Returns the longest single-day walking distance in meters. */
+    public double getMaxDailyDistanceMeters() {
+        double max = 0.0;
+        for (double distance : distanceMeters) {
+            max = Math.max(max, distance);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,33 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class StudentSchedule {
+    private final String studentId;
+    private final List<String> crns;
+
+    /** Pairs a student identifier with the CRNs the student is registered in. */
+    public StudentSchedule(String studentId, Collection<String> crns) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student id is required");
+        }
+        if (crns == null) {
+            throw new IllegalArgumentException("CRN collection is required");
+        }
+        this.studentId = studentId.trim();
+        this.crns = new ArrayList<>(crns);
+    }
+
+    /** Returns the student identifier. */
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /** Returns the CRNs as an immutable list. */
+    public List<String> getCrns() {
+        return Collections.unmodifiableList(crns);
+    }
+}
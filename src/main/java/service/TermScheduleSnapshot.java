@@ -0,0 +1,376 @@
+package service;
+
+import domain.*;
+import infra.BuildingRegistry;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary image of a loaded TermSchedule, stored beside the workbook it was built from.
+ * Strings, courses, instructors and rooms are written once into interned tables and referenced
+ * by primitive ids, so decoding a memory-mapped snapshot never touches POI.
+ */
+final class TermScheduleSnapshot {
+    private static final int MAGIC = 0x54534E50; // "TSNP"
+    private static final int VERSION = 1;
+    private static final int NO_ID = -1;
+    private static final String SUFFIX = ".snapshot";
+    /** crn, section, delivery mode, course, instructor and session count. */
+    private static final int OFFERING_HEADER_BYTES = 4 + 4 + 1 + 4 + 4 + 4;
+    /** day, start second, end second, activity type and room. */
+    private static final int SESSION_BYTES = 1 + 4 + 4 + 1 + 4;
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final DeliveryMode[] DELIVERY_MODES = DeliveryMode.values();
+    private static final ActivityType[] ACTIVITY_TYPES = ActivityType.values();
+
+    private TermScheduleSnapshot() {
+    }
+
+    /** Returns the sidecar path used for the snapshot of the given workbook. */
+    static Path pathFor(Path workbook) {
+        return workbook.resolveSibling(workbook.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Decodes the snapshot for the workbook when it is still current, otherwise returns null.
+     * A snapshot is current when the workbook size matches and either the modification time
+     * matches or, after a touch or copy, the content hash still does.
+     */
+    static TermSchedule readIfFresh(Path workbook, BuildingRegistry registry) {
+        Reader reader = openIfFresh(workbook, registry);
+        if (reader == null) {
+            return null;
+        }
+        try {
+            return reader.readAll();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /** Maps a current snapshot and decodes only its shared tables, or returns null when stale or unreadable. */
+    static Reader openIfFresh(Path workbook, BuildingRegistry registry) {
+        Path snapshot = pathFor(workbook);
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long size = buffer.getLong();
+            long modified = buffer.getLong();
+            byte[] hash = new byte[32];
+            buffer.get(hash);
+            if (size != Files.size(workbook)) {
+                return null;
+            }
+            if (modified != Files.getLastModifiedTime(workbook).toMillis() && !Arrays.equals(hash, contentHash(workbook))) {
+                return null;
+            }
+            return new Reader(buffer, registry);
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot for the workbook atomically under the given fingerprint, leaving any
+     * previous snapshot intact on failure. The fingerprint must be taken before the workbook was
+     * parsed, so a file replaced mid-load never labels the old content as current.
+     */
+    static void write(Path workbook, Fingerprint fingerprint, TermSchedule schedule) throws IOException {
+        Path snapshot = pathFor(workbook);
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint.size());
+                out.writeLong(fingerprint.modified());
+                out.write(fingerprint.hash());
+                encode(out, schedule);
+            }
+            moveIntoPlace(temp, snapshot);
+        } catch (IOException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    /** Replaces the target atomically where the file system allows it, otherwise with a plain replace. */
+    static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Writes the interned tables followed by the offerings that reference them. */
+    private static void encode(DataOutputStream out, TermSchedule schedule) throws IOException {
+        Interner<String> strings = new Interner<>(new HashMap<>());
+        Interner<Building> buildings = new Interner<>(new IdentityHashMap<>());
+        Interner<Course> courses = new Interner<>(new IdentityHashMap<>());
+        Interner<Instructor> instructors = new Interner<>(new IdentityHashMap<>());
+        Interner<Room> rooms = new Interner<>(new IdentityHashMap<>());
+        for (CourseOffering offering : schedule.allOfferings()) {
+            Course course = offering.getCourse();
+            strings.idOf(course.getCode());
+            strings.idOf(course.getTitle());
+            strings.idOf(course.getDepartment());
+            courses.idOf(course);
+            Instructor instructor = offering.getInstructor();
+            if (instructor != null) {
+                strings.idOf(instructor.getName());
+                if (instructor.getEmail() != null) {
+                    strings.idOf(instructor.getEmail());
+                }
+                instructors.idOf(instructor);
+            }
+            strings.idOf(offering.getCrn());
+            strings.idOf(offering.getSection());
+            for (MeetingSession session : offering.getSessions()) {
+                Room room = session.getRoom();
+                strings.idOf(room.getNumber());
+                strings.idOf(room.getBuilding().getCode());
+                buildings.idOf(room.getBuilding());
+                rooms.idOf(room);
+            }
+        }
+
+        out.writeInt(strings.values.size());
+        for (String value : strings.values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.writeInt(buildings.values.size());
+        for (Building building : buildings.values) {
+            out.writeInt(strings.idOf(building.getCode()));
+        }
+        out.writeInt(courses.values.size());
+        for (Course course : courses.values) {
+            out.writeInt(strings.idOf(course.getCode()));
+            out.writeInt(strings.idOf(course.getTitle()));
+            out.writeInt(strings.idOf(course.getDepartment()));
+        }
+        out.writeInt(instructors.values.size());
+        for (Instructor instructor : instructors.values) {
+            out.writeInt(strings.idOf(instructor.getName()));
+            out.writeInt(instructor.getEmail() == null ? NO_ID : strings.idOf(instructor.getEmail()));
+        }
+        out.writeInt(rooms.values.size());
+        for (Room room : rooms.values) {
+            out.writeInt(strings.idOf(room.getNumber()));
+            out.writeInt(room.getFloor());
+            out.writeInt(buildings.idOf(room.getBuilding()));
+        }
+        out.writeInt(schedule.allOfferings().size());
+        for (CourseOffering offering : schedule.allOfferings()) {
+            out.writeInt(strings.idOf(offering.getCrn()));
+            out.writeInt(strings.idOf(offering.getSection()));
+            out.writeByte(offering.getDeliveryMode().ordinal());
+            out.writeInt(courses.idOf(offering.getCourse()));
+            out.writeInt(offering.getInstructor() == null ? NO_ID : instructors.idOf(offering.getInstructor()));
+            List<MeetingSession> sessions = offering.getSessions();
+            out.writeInt(sessions.size());
+            for (MeetingSession session : sessions) {
+                out.writeByte(session.getDay().ordinal());
+                out.writeInt(session.getTimeSlot().getStartMinute() * 60);
+                out.writeInt(session.getTimeSlot().getEndMinute() * 60);
+                out.writeByte(session.getActivityType().ordinal());
+                out.writeInt(rooms.idOf(session.getRoom()));
+            }
+        }
+    }
+
+    /** Size, modification time and content hash identifying the workbook version a snapshot was built from. */
+    record Fingerprint(long size, long modified, byte[] hash) {
+        /** Reads the fingerprint of the workbook as it is on disk right now. */
+        static Fingerprint of(Path workbook) throws IOException {
+            long size = Files.size(workbook);
+            long modified = Files.getLastModifiedTime(workbook).toMillis();
+            return new Fingerprint(size, modified, contentHash(workbook));
+        }
+    }
+
+    /** Computes the SHA-256 digest of the workbook contents. */
+    private static byte[] contentHash(Path workbook) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream input = Files.newInputStream(workbook)) {
+            int read;
+            while ((read = input.read(chunk)) > 0) {
+                digest.update(chunk, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Decoded view of a mapped snapshot: the interned tables are materialized up front, while
+     * offerings are decoded either all at once or individually from their byte offset.
+     */
+    static final class Reader {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final Building[] buildings;
+        private final Course[] courses;
+        private final Instructor[] instructors;
+        private final Room[] rooms;
+        private final IngestionPools pools = new IngestionPools();
+        private final int offeringCount;
+        private final int firstOffering;
+
+        /** Decodes the tables, resolving buildings through the shared registry. */
+        private Reader(ByteBuffer buffer, BuildingRegistry registry) {
+            this.buffer = buffer;
+            strings = new String[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount(buffer, 1)];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            buildings = new Building[readCount(buffer, Integer.BYTES)];
+            for (int i = 0; i < buildings.length; i++) {
+                buildings[i] = registry.getOrCreate(strings[buffer.getInt()]);
+            }
+            courses = new Course[readCount(buffer, 3 * Integer.BYTES)];
+            for (int i = 0; i < courses.length; i++) {
+                courses[i] = new Course(strings[buffer.getInt()], strings[buffer.getInt()], strings[buffer.getInt()]);
+            }
+            instructors = new Instructor[readCount(buffer, 2 * Integer.BYTES)];
+            for (int i = 0; i < instructors.length; i++) {
+                String name = strings[buffer.getInt()];
+                int emailId = buffer.getInt();
+                instructors[i] = new Instructor(name, emailId == NO_ID ? null : strings[emailId]);
+            }
+            rooms = new Room[readCount(buffer, 3 * Integer.BYTES)];
+            for (int i = 0; i < rooms.length; i++) {
+                String number = strings[buffer.getInt()];
+                int floor = buffer.getInt();
+                rooms[i] = new Room(number, floor, buildings[buffer.getInt()]);
+            }
+            offeringCount = readCount(buffer, OFFERING_HEADER_BYTES);
+            firstOffering = buffer.position();
+        }
+
+        /** Rebuilds the complete schedule. */
+        synchronized TermSchedule readAll() {
+            ByteBuffer view = buffer.duplicate();
+            view.position(firstOffering);
+            List<CourseOffering> offerings = new ArrayList<>(offeringCount);
+            for (int i = 0; i < offeringCount; i++) {
+                offerings.add(readOffering(view));
+            }
+            return new TermSchedule(offerings);
+        }
+
+        /** Decodes the single offering whose record starts at the given byte offset. */
+        synchronized CourseOffering offeringAt(int offset) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            return readOffering(view);
+        }
+
+        /** Walks the offering records without decoding sessions and maps each CRN to its byte offset. */
+        Map<String, Integer> offeringOffsets() {
+            ByteBuffer view = buffer.duplicate();
+            view.position(firstOffering);
+            Map<String, Integer> offsets = new HashMap<>();
+            for (int i = 0; i < offeringCount; i++) {
+                int offset = view.position();
+                String crn = strings[view.getInt()];
+                view.position(offset + OFFERING_HEADER_BYTES - Integer.BYTES);
+                int sessionCount = readCount(view, SESSION_BYTES);
+                view.position(view.position() + sessionCount * SESSION_BYTES);
+                offsets.put(crn, offset);
+            }
+            return offsets;
+        }
+
+        /** Reads one offering record at the view's position. */
+        private CourseOffering readOffering(ByteBuffer view) {
+            String crn = strings[view.getInt()];
+            String section = strings[view.getInt()];
+            DeliveryMode deliveryMode = DELIVERY_MODES[view.get()];
+            Course course = courses[view.getInt()];
+            int instructorId = view.getInt();
+            CourseOffering offering = new CourseOffering(crn, section, deliveryMode, course,
+                    instructorId == NO_ID ? null : instructors[instructorId]);
+            int sessionCount = readCount(view, SESSION_BYTES);
+            for (int s = 0; s < sessionCount; s++) {
+                DayOfWeek day = DAYS[view.get()];
+                int start = view.getInt();
+                int end = view.getInt();
+                TimeSlot timeSlot = pools.timeSlot(LocalTime.ofSecondOfDay(start), LocalTime.ofSecondOfDay(end));
+                ActivityType activityType = ACTIVITY_TYPES[view.get()];
+                offering.addSession(new MeetingSession(day, timeSlot, activityType, rooms[view.getInt()]));
+            }
+            return offering;
+        }
+
+        /**
+         * Reads an element count and rejects it when it is negative or more elements of the given
+         * minimum size than the buffer has bytes left, so a corrupt count reads as a stale snapshot
+         * instead of a huge or negative allocation.
+         */
+        private static int readCount(ByteBuffer view, int minBytesEach) {
+            int count = view.getInt();
+            if (count < 0 || (long) count * minBytesEach > view.remaining()) {
+                throw new IllegalArgumentException("Corrupt snapshot count: " + count);
+            }
+            return count;
+        }
+    }
+
+    /** Assigns dense ids to values in first-seen order. */
+    private static final class Interner<T> {
+        private final Map<T, Integer> ids;
+        private final List<T> values = new ArrayList<>();
+
+        private Interner(Map<T, Integer> ids) {
+            this.ids = ids;
+        }
+
+        private int idOf(T value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package service;
+
+import domain.Building;
+import domain.RouteSegment;
+import domain.SessionTable;
+import domain.TermSchedule;
+import domain.TrafficHeatmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Counts every consecutive-session transfer of every student into (leg, day, time bucket) cells.
+ * A transfer is bucketed by the end of the session the student leaves, i.e. its class change.
+ * Students are scanned in parallel into per-thread primitive counts merged at the end; only
+ * then are legs that carried traffic given dense edge ids and routed once for drawing.
+ */
+final class TrafficAggregator {
+    private static final int DAY_COUNT = 7;
+
+    private final EnrolmentRows enrolmentRows;
+    private final SessionTable table;
+    private final RoutePlanningService routePlanningService;
+    private final int buildingCount;
+    private final int bucketMinutes;
+    private final int firstMinute;
+    private final int bucketCount;
+
+    /** Lays out buckets of the given width over the span of the schedule's sessions. */
+    TrafficAggregator(TermSchedule schedule, RoutePlanningService routePlanningService, int bucketMinutes) {
+        if (routePlanningService == null) {
+            throw new IllegalArgumentException("Route planning service is required");
+        }
+        if (bucketMinutes <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive");
+        }
+        this.enrolmentRows = new EnrolmentRows(schedule);
+        this.table = enrolmentRows.table();
+        this.routePlanningService = routePlanningService;
+        this.buildingCount = table.buildingCount();
+        this.bucketMinutes = bucketMinutes;
+        int earliest = Integer.MAX_VALUE;
+        int latest = 0;
+        for (int row = 0; row < table.size(); row++) {
+            earliest = Math.min(earliest, table.startMinuteAt(row));
+            latest = Math.max(latest, table.endMinuteAt(row));
+        }
+        this.firstMinute = table.size() == 0 ? 0 : earliest / bucketMinutes * bucketMinutes;
+        this.bucketCount = table.size() == 0 ? 0 : (latest - firstMinute) / bucketMinutes + 1;
+    }
+
+    /** Scans the students and returns the heatmap of every leg that carried at least one transfer. */
+    TrafficHeatmap aggregate(Stream<StudentSchedule> students) {
+        if (students == null) {
+            throw new IllegalArgumentException("Student stream is required");
+        }
+        LongCounts counts = students.parallel()
+                .collect(LongCounts::new, this::accumulate, LongCounts::addAll);
+
+        long[] pairs = new long[counts.size()];
+        int[] pairCount = new int[1];
+        counts.forEach((key, count) -> pairs[pairCount[0]++] = key / (DAY_COUNT * bucketCount));
+        long[] distinctPairs = Arrays.stream(pairs).sorted().distinct().toArray();
+
+        Building[] buildings = enrolmentRows.buildings();
+        List<RouteSegment> edges = new ArrayList<>(distinctPairs.length);
+        for (long pair : distinctPairs) {
+            edges.add(routePlanningService.legSegment(buildings[(int) (pair / buildingCount)],
+                    buildings[(int) (pair % buildingCount)]));
+        }
+
+        int[] cells = new int[DAY_COUNT * bucketCount * edges.size()];
+        counts.forEach((key, count) -> {
+            int edge = Arrays.binarySearch(distinctPairs, key / (DAY_COUNT * bucketCount));
+            int slice = (int) (key % (DAY_COUNT * bucketCount));
+            cells[slice * edges.size() + edge] += count;
+        });
+        return new TrafficHeatmap(edges, firstMinute, bucketMinutes, bucketCount, cells);
+    }
+
+    /** Adds one student's building-changing transfers to the thread's counts. */
+    private void accumulate(LongCounts counts, StudentSchedule student) {
+        long[] keys = enrolmentRows.sortedRows(student);
+        for (int i = 1; i < keys.length; i++) {
+            if (!EnrolmentRows.sameDay(keys[i - 1], keys[i])) {
+                continue;
+            }
+            int fromRow = EnrolmentRows.rowOf(keys[i - 1]);
+            int fromBuilding = table.buildingIdAt(fromRow);
+            int toBuilding = table.buildingIdAt(EnrolmentRows.rowOf(keys[i]));
+            if (fromBuilding == toBuilding) {
+                continue;
+            }
+            long pair = (long) Math.min(fromBuilding, toBuilding) * buildingCount + Math.max(fromBuilding, toBuilding);
+            int bucket = (table.endMinuteAt(fromRow) - firstMinute) / bucketMinutes;
+            int slice = EnrolmentRows.dayOf(keys[i]) * bucketCount + bucket;
+            counts.add(pair * (DAY_COUNT * bucketCount) + slice, 1);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package service;
+
+import domain.CourseOffering;
+import domain.MeetingSession;
+import domain.TransferStatus;
+
+import java.time.DayOfWeek;
+
+public class TransferRisk {
+    private final CourseOffering fromOffering;
+    private final MeetingSession fromSession;
+    private final CourseOffering toOffering;
+    private final MeetingSession toSession;
+    private final int walkMinutes;
+    private final int gapMinutes;
+    private final TransferStatus status;
+    private final int studentCount;
+
+    /** Describes one session-to-session transfer that is tight or infeasible, with how many students make it. */
+    TransferRisk(CourseOffering fromOffering, MeetingSession fromSession,
+                 CourseOffering toOffering, MeetingSession toSession,
+                 int walkMinutes, int gapMinutes, TransferStatus status, int studentCount) {
+        this.fromOffering = fromOffering;
+        this.fromSession = fromSession;
+        this.toOffering = toOffering;
+        this.toSession = toSession;
+        this.walkMinutes = walkMinutes;
+        this.gapMinutes = gapMinutes;
+        this.status = status;
+        this.studentCount = studentCount;
+    }
+
+    /** Returns the day on which the transfer happens. */
+    public DayOfWeek getDay() {
+        return fromSession.getDay();
+    }
+
+    /** Returns the offering the students leave. */
+    public CourseOffering getFromOffering() {
+        return fromOffering;
+    }
+
+    /** Returns the session the students leave. */
+    public MeetingSession getFromSession() {
+        return fromSession;
+    }
+
+    /** Returns the offering the students walk to. */
+    public CourseOffering getToOffering() {
+        return toOffering;
+    }
+
+    /** Returns the session the students walk to. */
+    public MeetingSession getToSession() {
+        return toSession;
+    }
+
+    /** Returns the walk time in whole minutes, rounded up. */
+    public int getWalkMinutes() {
+        return walkMinutes;
+    }
+
+    /** Returns the break between the two sessions in minutes; negative when they overlap. */
+    public int getGapMinutes() {
+        return gapMinutes;
+    }
+
+    /** Returns the spare minutes left after walking; negative when the walk does not fit. */
+    public int getSlackMinutes() {
+        return gapMinutes - walkMinutes;
+    }
+
+    /** Returns whether the transfer is tight or infeasible. */
+    public TransferStatus getStatus() {
+        return status;
+    }
+
+    /** Returns how many students have these two sessions back to back. */
+    public int getStudentCount() {
+        return studentCount;
+    }
+}
@@ -0,0 +1,102 @@
+package service;
+
+import domain.Building;
+import domain.ScheduleIndex;
+import domain.SessionTable;
+import domain.TermSchedule;
+import domain.TransferPolicy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Finds the campus-wide transfers students are least likely to make in time. Gaps and slack come
+ * from SessionTable columns and a precomputed walk-minute matrix without touching the object
+ * graph. Students are scanned in parallel into per-thread counts of risky (row, row) pairs that
+ * are merged at the end.
+ */
+final class TransferRiskScanner {
+    private final TermSchedule schedule;
+    private final EnrolmentRows enrolmentRows;
+    private final SessionTable table;
+    private final TransferPolicy policy;
+    private final int buildingCount;
+    private final int[] walkMinutes;
+
+    /** Indexes the schedule's rows and precomputes walk minutes between every pair of buildings. */
+    TransferRiskScanner(TermSchedule schedule, RoutePlanningService routePlanningService) {
+        if (routePlanningService == null) {
+            throw new IllegalArgumentException("Route planning service is required");
+        }
+        this.schedule = schedule;
+        this.enrolmentRows = new EnrolmentRows(schedule);
+        this.table = enrolmentRows.table();
+        this.policy = routePlanningService.getTransferPolicy();
+
+        buildingCount = table.buildingCount();
+        Building[] buildings = enrolmentRows.buildings();
+        walkMinutes = new int[buildingCount * buildingCount];
+        IntStream.range(0, buildingCount).parallel().forEach(from -> {
+            for (int to = 0; to < buildingCount; to++) {
+                walkMinutes[from * buildingCount + to] = from == to
+                        ? 0
+                        : policy.walkMinutes(routePlanningService.legDistanceMeters(buildings[from], buildings[to]));
+            }
+        });
+    }
+
+    /** Scans every student and returns up to limit risky transfers, least slack first and then most students. */
+    List<TransferRisk> scan(Stream<StudentSchedule> students, int limit) {
+        if (students == null) {
+            throw new IllegalArgumentException("Student stream is required");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Result limit must be positive");
+        }
+        LongCounts counts = students.parallel()
+                .collect(LongCounts::new, this::accumulate, LongCounts::addAll);
+
+        ScheduleIndex index = schedule.getIndex();
+        List<TransferRisk> risks = new ArrayList<>(counts.size());
+        counts.forEach((pair, count) -> {
+            int fromRow = (int) (pair >>> 32);
+            int toRow = (int) pair;
+            int gap = table.startMinuteAt(toRow) - table.endMinuteAt(fromRow);
+            int walk = walkMinutes[table.buildingIdAt(fromRow) * buildingCount + table.buildingIdAt(toRow)];
+            risks.add(new TransferRisk(
+                    table.offering(table.offeringIdAt(fromRow)), index.sessionAt(fromRow),
+                    table.offering(table.offeringIdAt(toRow)), index.sessionAt(toRow),
+                    walk, gap, policy.classify(walk, gap), count));
+        });
+        risks.sort(Comparator.comparingInt(TransferRisk::getSlackMinutes)
+                .thenComparing(Comparator.comparingInt(TransferRisk::getStudentCount).reversed())
+                .thenComparing(risk -> risk.getFromOffering().getCrn())
+                .thenComparing(risk -> risk.getToOffering().getCrn()));
+        return risks.size() > limit ? new ArrayList<>(risks.subList(0, limit)) : risks;
+    }
+
+    /** Adds one student's tight and infeasible transfers to the thread's counts. */
+    private void accumulate(LongCounts counts, StudentSchedule student) {
+        long[] keys = enrolmentRows.sortedRows(student);
+        int margin = policy.getTightMarginMinutes();
+        for (int i = 1; i < keys.length; i++) {
+            if (!EnrolmentRows.sameDay(keys[i - 1], keys[i])) {
+                continue;
+            }
+            int fromRow = EnrolmentRows.rowOf(keys[i - 1]);
+            int toRow = EnrolmentRows.rowOf(keys[i]);
+            int fromBuilding = table.buildingIdAt(fromRow);
+            int toBuilding = table.buildingIdAt(toRow);
+            if (fromBuilding == toBuilding) {
+                continue;
+            }
+            int gap = EnrolmentRows.startOf(keys[i]) - table.endMinuteAt(fromRow);
+            if (gap - walkMinutes[fromBuilding * buildingCount + toBuilding] < margin) {
+                counts.add(((long) fromRow << 32) | toRow, 1);
+            }
+        }
+    }
+}
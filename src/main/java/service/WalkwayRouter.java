@@ -0,0 +1,219 @@
+package service;
+
+import domain.Building;
+import domain.CampusCoordinate;
+import domain.RouteSegment;
+import infra.WalkwayGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Routes legs between buildings along the walkway graph. A Dijkstra shortest-path tree is
+ * computed once per source entrance and cached, so every later leg from that entrance is a
+ * lookup plus a walk up the parent pointers.
+ */
+public class WalkwayRouter {
+    private final WalkwayGraph graph;
+    private final double metersPerUnit;
+    private final Map<Integer, ShortestPathTree> trees = new ConcurrentHashMap<>();
+
+    /** Wraps the graph and the campus scale used to turn normalized lengths into meters. */
+    public WalkwayRouter(WalkwayGraph graph, double metersPerUnit) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Walkway graph is required");
+        }
+        if (metersPerUnit <= 0) {
+            throw new IllegalArgumentException("Scale must be positive");
+        }
+        this.graph = graph;
+        this.metersPerUnit = metersPerUnit;
+    }
+
+    /**
+     * Returns the shortest walkway leg between the buildings, choosing the best pair of entrances,
+     * or null when either building has no entrance on the network or they are not connected.
+     */
+    public RouteSegment route(Building from, Building to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Route endpoints are required");
+        }
+        int[] sources = graph.entrancesOf(from.getCode());
+        int[] targets = graph.entrancesOf(to.getCode());
+        double best = Double.POSITIVE_INFINITY;
+        ShortestPathTree bestTree = null;
+        int bestTarget = -1;
+        for (int source : sources) {
+            ShortestPathTree tree = treeFrom(source);
+            double approach = distance(from.getLocation(), graph.locationOf(source));
+            for (int target : targets) {
+                double total = approach + tree.distances[target] + distance(graph.locationOf(target), to.getLocation());
+                if (total < best) {
+                    best = total;
+                    bestTree = tree;
+                    bestTarget = target;
+                }
+            }
+        }
+        if (bestTree == null) {
+            return null;
+        }
+        List<CampusCoordinate> polyline = new ArrayList<>();
+        polyline.add(from.getLocation());
+        for (int node : bestTree.pathTo(bestTarget)) {
+            addPoint(polyline, graph.locationOf(node));
+        }
+        addPoint(polyline, to.getLocation());
+        return new RouteSegment(from, to, best * metersPerUnit, polyline);
+    }
+
+    /** Computes and caches the shortest-path tree of every entrance in parallel, so all legs become lookups. */
+    public void precomputeAll() {
+        graph.buildingCodes().parallelStream()
+                .flatMapToInt(code -> IntStream.of(graph.entrancesOf(code)))
+                .forEach(this::treeFrom);
+    }
+
+    /** Returns the number of cached shortest-path trees. */
+    public int cachedTreeCount() {
+        return trees.size();
+    }
+
+    /** Returns the cached tree rooted at the node, running Dijkstra on first use. */
+    private ShortestPathTree treeFrom(int source) {
+        return trees.computeIfAbsent(source, this::dijkstra);
+    }
+
+    /** Runs Dijkstra from the source over the compressed adjacency with a primitive binary heap. */
+    private ShortestPathTree dijkstra(int source) {
+        int count = graph.nodeCount();
+        double[] distances = new double[count];
+        int[] parents = new int[count];
+        boolean[] settled = new boolean[count];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        distances[source] = 0.0;
+        NodeHeap heap = new NodeHeap(count);
+        heap.push(source, 0.0);
+        while (!heap.isEmpty()) {
+            int node = heap.pop();
+            if (settled[node]) {
+                continue;
+            }
+            settled[node] = true;
+            for (int edge = graph.firstEdge(node); edge < graph.endEdge(node); edge++) {
+                int target = graph.edgeTarget(edge);
+                double candidate = distances[node] + graph.edgeWeight(edge);
+                if (candidate < distances[target]) {
+                    distances[target] = candidate;
+                    parents[target] = node;
+                    heap.push(target, candidate);
+                }
+            }
+        }
+        return new ShortestPathTree(distances, parents);
+    }
+
+    /** Appends a point unless it repeats the previous one. */
+    private static void addPoint(List<CampusCoordinate> polyline, CampusCoordinate point) {
+        if (!polyline.get(polyline.size() - 1).equals(point)) {
+            polyline.add(point);
+        }
+    }
+
+    /** Returns the straight-line distance between two coordinates in normalized units. */
+    private static double distance(CampusCoordinate a, CampusCoordinate b) {
+        return Math.hypot(a.getX() - b.getX(), a.getY() - b.getY());
+    }
+
+    /** Distances and parent pointers from one source node. */
+    private static final class ShortestPathTree {
+        private final double[] distances;
+        private final int[] parents;
+
+        /** Keeps the arrays produced by one Dijkstra run. */
+        private ShortestPathTree(double[] distances, int[] parents) {
+            this.distances = distances;
+            this.parents = parents;
+        }
+
+        /** Lists the nodes from the source to the target by walking the parent pointers. */
+        private List<Integer> pathTo(int target) {
+            List<Integer> path = new ArrayList<>();
+            for (int node = target; node >= 0; node = parents[node]) {
+                path.add(node);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    /** Min-heap of (node, key) pairs on parallel arrays; stale duplicates are skipped by the caller. */
+    private static final class NodeHeap {
+        private int[] nodes;
+        private double[] keys;
+        private int size;
+
+        /** Allocates room for the expected number of pushes. */
+        private NodeHeap(int capacity) {
+            nodes = new int[Math.max(4, capacity)];
+            keys = new double[nodes.length];
+        }
+
+        /** Indicates whether the heap is empty. */
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** Adds a node with its tentative distance. */
+        private void push(int node, double key) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                nodes[index] = nodes[parent];
+                keys[index] = keys[parent];
+                index = parent;
+            }
+            nodes[index] = node;
+            keys[index] = key;
+        }
+
+        /** Removes and returns the node with the smallest key. */
+        private int pop() {
+            int result = nodes[0];
+            int lastNode = nodes[--size];
+            double lastKey = keys[size];
+            int index = 0;
+            while (true) {
+                int child = index * 2 + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= lastKey) {
+                    break;
+                }
+                nodes[index] = nodes[child];
+                keys[index] = keys[child];
+                index = child;
+            }
+            nodes[index] = lastNode;
+            keys[index] = lastKey;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package service;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/** Streams worksheets of an .xlsx package through SAX without building the workbook DOM. */
+final class XlsxSheetStreamer {
+    private XlsxSheetStreamer() {
+    }
+
+    /** Lists the sheet names in workbook order, reading only the workbook part. */
+    static List<String> listSheets(Path filePath) {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(filePath.toFile(), PackageAccess.READ);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            List<String> names = new ArrayList<>();
+            while (sheets.hasNext()) {
+                try (InputStream ignored = sheets.next()) {
+                    names.add(sheets.getSheetName());
+                }
+            }
+            return names;
+        } catch (IOException | OpenXML4JException ex) {
+            throw new RuntimeException("Failed to index Excel file: " + filePath, ex);
+        } finally {
+            if (pkg != null) {
+                pkg.revert();
+            }
+        }
+    }
+
+    /**
+     * Streams one worksheet into the assembler, resolving shared strings and date styles on the fly,
+     * and waits for its queued chunks before recording the row stage. A null sheet name selects the first sheet.
+     */
+    static void stream(Path filePath,
+                       String sheetName,
+                       ParallelOfferingAssembler assembler,
+                       LoadProgress progress,
+                       IngestionMetrics metrics) {
+        OPCPackage pkg = null;
+        try {
+            long openStart = System.nanoTime();
+            pkg = OPCPackage.open(filePath.toFile(), PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new StreamingSheetHandler(sharedStrings, reader.getStylesTable(), assembler::accept));
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName != null && !sheetName.equals(sheets.getSheetName())) {
+                        continue;
+                    }
+                    metrics.recordOpen(System.nanoTime() - openStart);
+                    long rowsStart = System.nanoTime();
+                    long rowsBefore = progress.getRowsProcessed();
+                    parser.parse(new InputSource(sheet));
+                    assembler.finish();
+                    metrics.recordRows(System.nanoTime() - rowsStart, progress.getRowsProcessed() - rowsBefore);
+                    return;
+                }
+            }
+            if (sheetName != null) {
+                throw new IllegalArgumentException("Sheet not found: " + sheetName);
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException ex) {
+            throw new RuntimeException("Failed to stream Excel file: " + filePath, ex);
+        } finally {
+            if (pkg != null) {
+                pkg.revert();
+            }
+        }
+    }
+}
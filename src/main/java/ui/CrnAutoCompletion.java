@@ -0,0 +1,125 @@
+package ui;
+
+import domain.CourseOffering;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.CustomMenuItem;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Autocomplete dropdown for the CRN field, where CRNs are separated by commas, semicolons or
+ * whitespace: the token under edit is looked up through the suggestion provider and picking a
+ * suggestion replaces that token with its CRN. A digits token right after a letters token, as in
+ * "ICS 108", is looked up as the compact course code "ICS108" and replaced together with it.
+ */
+public class CrnAutoCompletion {
+    /** Punctuation that separates CRNs alongside whitespace, matching MainController.parseCrns. */
+    private static final String SEPARATORS = ",;";
+
+    private final TextField field;
+    private final ContextMenu popup = new ContextMenu();
+    private Function<String, List<CourseOffering>> suggestionProvider;
+    private boolean applying;
+
+    /** Attaches the dropdown to the field; suggestions stay off until a provider is set. */
+    public CrnAutoCompletion(TextField field) {
+        this.field = Objects.requireNonNull(field, "field");
+        popup.setAutoHide(true);
+        field.textProperty().addListener((observable, oldText, newText) -> refresh());
+        field.focusedProperty().addListener((observable, wasFocused, focused) -> {
+            if (!focused) {
+                popup.hide();
+            }
+        });
+    }
+
+    /** Installs the lookup that maps the token under edit to suggested offerings, or clears it with null. */
+    public void setSuggestionProvider(Function<String, List<CourseOffering>> suggestionProvider) {
+        this.suggestionProvider = suggestionProvider;
+        if (suggestionProvider == null) {
+            popup.hide();
+        }
+    }
+
+    /** Re-queries the provider for the last token and shows or hides the dropdown. */
+    private void refresh() {
+        if (applying || suggestionProvider == null || !field.isFocused()) {
+            return;
+        }
+        String token = currentToken();
+        List<CourseOffering> suggestions = token.isEmpty() ? List.of() : suggestionProvider.apply(token);
+        if (suggestions.isEmpty()) {
+            popup.hide();
+            return;
+        }
+        popup.getItems().clear();
+        for (CourseOffering offering : suggestions) {
+            Label label = new Label(offering.getCrn() + "  " + offering.getCourse().getCode()
+                    + " (" + offering.getSection() + ") " + offering.getCourse().getTitle());
+            CustomMenuItem item = new CustomMenuItem(label, true);
+            item.setOnAction(event -> apply(offering.getCrn()));
+            popup.getItems().add(item);
+        }
+        if (!popup.isShowing()) {
+            popup.show(field, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /** Replaces the token under edit with the chosen CRN and leaves the caret ready for the next one. */
+    private void apply(String crn) {
+        String text = field.getText();
+        int start = queryStart(text);
+        applying = true;
+        try {
+            field.setText(text.substring(0, start) + crn + ", ");
+            field.positionCaret(field.getText().length());
+        } finally {
+            applying = false;
+        }
+        popup.hide();
+    }
+
+    /** Returns the trailing token of the field text, joined to a course subject that precedes its digits. */
+    private String currentToken() {
+        String text = field.getText() == null ? "" : field.getText();
+        return text.substring(queryStart(text)).replaceAll("\\s+", "");
+    }
+
+    /** Finds where the lookup begins: the trailing token, or the subject before it when it reads "letters digits". */
+    private static int queryStart(String text) {
+        int start = tokenStart(text);
+        if (start == text.length() || !text.substring(start).chars().allMatch(Character::isDigit)) {
+            return start;
+        }
+        int subjectEnd = start;
+        while (subjectEnd > 0 && Character.isWhitespace(text.charAt(subjectEnd - 1))) {
+            subjectEnd--;
+        }
+        if (subjectEnd == start) {
+            return start;
+        }
+        int subjectStart = tokenStart(text.substring(0, subjectEnd));
+        boolean subject = subjectStart < subjectEnd
+                && text.substring(subjectStart, subjectEnd).chars().allMatch(Character::isLetter);
+        return subject ? subjectStart : start;
+    }
+
+    /** Finds where the trailing token begins. */
+    private static int tokenStart(String text) {
+        int index = text.length();
+        while (index > 0 && !isSeparator(text.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    /** Indicates whether the character ends a CRN token. */
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || SEPARATORS.indexOf(c) >= 0;
+    }
+}
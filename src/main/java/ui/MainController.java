@@ -1,38 +1,66 @@
 package ui;
 
-import domain.DailyItinerary;
+import domain.Building;
 import domain.CourseOffering;
+import domain.RouteSegment;
 import domain.RouteVisualizationModel;
+import domain.TrafficHeatmap;
+import domain.WeeklyRouteVisualization;
 import infra.BuildingRegistry;
 import infra.CoordinateSeeder;
+import infra.WalkwayGraph;
 import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.image.Image;
 import javafx.stage.FileChooser;
 import javafx.stage.Window;
+import service.DelimitedScheduleRepository;
 import service.DistanceCalculator;
+import service.EnrolmentReader;
 import service.ExcelScheduleRepository;
+import service.IngestionMetrics;
 import service.RoutePlanningService;
+import service.ScheduleChangeEvent;
+import service.ScheduleFileWatcher;
 import service.ScheduleRepository;
 import service.ScheduleService;
+import service.StudentSchedule;
+import service.WalkwayRouter;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class MainController {
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int HEATMAP_BUCKET_MINUTES = 10;
+    private static final int NEARBY_BUILDINGS = 3;
+
     private final MainView view;
     private final BuildingRegistry buildingRegistry = new BuildingRegistry();
     private RoutePlanningService routePlanningService;
     private DistanceCalculator distanceCalculator;
     private ScheduleRepository repository;
     private ScheduleService scheduleService;
+    private long scheduleGeneration;
+    private ScheduleFileWatcher fileWatcher;
+    private ScheduleLoadTask loadTask;
+    private boolean visualizePending;
+    private List<String> visualizedCrns = List.of();
+    private DayOfWeek visualizedDay;
+    private List<String> visualizedMissingCrns = List.of();
+    private WeeklyRouteVisualization visualizedWeek;
+    private TrafficHeatmap trafficHeatmap;
     private Image mapImage;
 
     /** Wires the controller to the view that hosts user-interaction controls. */
@@ -45,10 +73,22 @@ public class MainController {
         mapImage = new Image(Objects.requireNonNull(getClass().getResource("/map.png"), "map.png not found").toExternalForm());
         view.getMapPane().setBackgroundImage(mapImage);
         CoordinateSeeder.seed(buildingRegistry, mapImage);
+        view.getMapPane().setSpatialIndexSupplier(buildingRegistry::getSpatialIndex);
+        view.getMapPane().setOnBuildingSelected(this::showSelectedBuilding);
+        view.getMapPane().setOnSegmentSelected(this::showSelectedSegment);
         calibrateDistanceScale(350.0, "59", "11");
 
         view.getLoadButton().setOnAction(event -> handleLoadExcel());
         view.getVisualizeButton().setOnAction(event -> handleVisualize());
+        view.getCancelLoadButton().setOnAction(event -> cancelLoad());
+        view.getHeatmapButton().setOnAction(event -> handleTrafficHeatmap());
+        view.getHeatmapSlider().valueProperty().addListener((observable, oldValue, newValue) -> showHeatmapBucket());
+        view.getDaySelector().valueProperty().addListener((observable, oldDay, newDay) -> {
+            if (visualizedWeek != null) {
+                showVisualizedDay(parseDay(newDay));
+            }
+            showHeatmapBucket();
+        });
     }
 
     /** Calibrates the distance scale using a known real-world distance between two buildings. */
@@ -62,40 +102,194 @@ public class MainController {
             double normalized = Math.hypot(dx, dy);
             if (normalized > 0) {
                 double metersPerUnit = actualMeters / normalized;
-                distanceCalculator = new DistanceCalculator(metersPerUnit);
-                routePlanningService = new RoutePlanningService(distanceCalculator);
+                distanceCalculator = new DistanceCalculator(metersPerUnit, buildingRegistry);
+                routePlanningService = createRoutePlanningService(metersPerUnit);
                 return;
             }
         }
-        distanceCalculator = new DistanceCalculator(900);
-        routePlanningService = new RoutePlanningService(distanceCalculator);
+        distanceCalculator = new DistanceCalculator(900, buildingRegistry);
+        routePlanningService = createRoutePlanningService(900);
+    }
+
+    /** Routes along a surveyed walkways.csv when one is on the classpath, otherwise with straight lines. */
+    private RoutePlanningService createRoutePlanningService(double metersPerUnit) {
+        WalkwayGraph graph = WalkwayGraph.load(mapImage.getWidth(), mapImage.getHeight());
+        if (graph == null) {
+            return new RoutePlanningService(distanceCalculator);
+        }
+        return new RoutePlanningService(distanceCalculator, new WalkwayRouter(graph, metersPerUnit));
     }
 
-    /** Lets the user pick the Excel file and loads it into memory. */
+    /** Lets the user pick the Excel or delimited schedule file and loads it into memory. */
     private void handleLoadExcel() {
         FileChooser chooser = new FileChooser();
-        chooser.setTitle("Select Term Schedule Excel File");
-        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Excel Files", "*.xlsx"));
+        chooser.setTitle("Select Term Schedule File");
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Excel Files", "*.xlsx"),
+                new FileChooser.ExtensionFilter("Delimited Files", "*.csv", "*.tsv", "*.txt"));
         Window window = view.getScene() != null ? view.getScene().getWindow() : null;
         File selected = chooser.showOpenDialog(window);
         if (selected == null) {
             return;
         }
         Path path = selected.toPath();
+        ScheduleRepository candidate;
         try {
-            repository = new ExcelScheduleRepository(path, buildingRegistry);
-            scheduleService = new ScheduleService(repository);
-            int count = repository.getTermSchedule().allOfferings().size();
-            view.getSummaryArea().setText("Loaded offerings: " + count + System.lineSeparator() + path);
-            view.getMapPane().clearVisualization();
-            showMessage(Alert.AlertType.INFORMATION, "Excel Loaded", "Schedule data loaded successfully.");
+            candidate = createRepository(path);
         } catch (RuntimeException ex) {
             showMessage(Alert.AlertType.ERROR, "Load Failed", "Unable to read Excel file: " + ex.getMessage());
+            return;
         }
+        startLoad(candidate, path);
+    }
+
+    /** Loads the repository on a background thread, streaming row progress into the summary area. */
+    private void startLoad(ScheduleRepository candidate, Path path) {
+        cancelLoad();
+        ScheduleLoadTask task = new ScheduleLoadTask(candidate);
+        loadTask = task;
+        view.getSummaryArea().setText("Loading " + path);
+        view.getCancelLoadButton().setDisable(false);
+        task.messageProperty().addListener((obs, oldMessage, message) -> {
+            if (loadTask == task && message != null && !message.isBlank()) {
+                view.getSummaryArea().setText("Loading " + path + System.lineSeparator() + message);
+            }
+        });
+        task.setOnSucceeded(event -> finishLoad(task, candidate, path));
+        task.setOnFailed(event -> {
+            if (loadTask != task) {
+                return;
+            }
+            endLoad();
+            Throwable error = task.getException();
+            view.getSummaryArea().setText("Load failed: " + path);
+            showMessage(Alert.AlertType.ERROR, "Load Failed", "Unable to read Excel file: "
+                    + (error == null ? "unknown error" : error.getMessage()));
+        });
+        task.setOnCancelled(event -> {
+            if (loadTask != task) {
+                return;
+            }
+            endLoad();
+            view.getSummaryArea().setText("Load cancelled: " + path);
+        });
+
+        Thread thread = new Thread(task, "schedule-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Publishes the loaded service in one step and runs any visualization that waited for it. */
+    private void finishLoad(ScheduleLoadTask task, ScheduleRepository candidate, Path path) {
+        if (loadTask != task) {
+            return;
+        }
+        boolean runPendingVisualize = visualizePending;
+        endLoad();
+        repository = candidate;
+        scheduleService = task.getValue();
+        scheduleGeneration++;
+        ScheduleService suggestions = scheduleService;
+        view.getCrnAutoCompletion().setSuggestionProvider(prefix -> suggestions.suggestOfferings(prefix, MAX_SUGGESTIONS));
+        int count = repository.getTermSchedule().allOfferings().size();
+        StringBuilder summary = new StringBuilder("Loaded offerings: " + count + System.lineSeparator() + path);
+        IngestionMetrics metrics = repository.getLastMetrics();
+        if (metrics != null) {
+            for (String line : metrics.toSummaryLines()) {
+                summary.append(System.lineSeparator()).append(line);
+            }
+        }
+        view.getSummaryArea().setText(summary.toString());
+        view.getMapPane().clearVisualization();
+        visualizedCrns = List.of();
+        visualizedWeek = null;
+        clearTrafficHeatmap();
+        if (repository instanceof ExcelScheduleRepository excelRepository) {
+            watchForChanges(excelRepository);
+        } else {
+            stopWatching();
+        }
+        if (runPendingVisualize) {
+            handleVisualize();
+        } else {
+            showMessage(Alert.AlertType.INFORMATION, "Excel Loaded", "Schedule data loaded successfully.");
+        }
+    }
+
+    /** Cancels the in-flight load, if any; its cancellation handler restores the controls. */
+    private void cancelLoad() {
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+    }
+
+    /** Clears the in-flight load state once a load finishes, fails or is cancelled. */
+    private void endLoad() {
+        loadTask = null;
+        visualizePending = false;
+        view.getCancelLoadButton().setDisable(true);
+    }
+
+    /** Picks the memory-mapped delimited reader for CSV/TSV exports and the Excel reader otherwise. */
+    private ScheduleRepository createRepository(Path path) {
+        if (DelimitedScheduleRepository.supports(path)) {
+            return new DelimitedScheduleRepository(path, buildingRegistry);
+        }
+        return new ExcelScheduleRepository(path, buildingRegistry, selectIngestionMode(path));
+    }
+
+    /** Replaces any previous file watcher with one that hot-reloads the given workbook. */
+    private void watchForChanges(ExcelScheduleRepository excelRepository) {
+        stopWatching();
+        fileWatcher = new ScheduleFileWatcher(excelRepository,
+                event -> Platform.runLater(() -> handleScheduleChanged(excelRepository, event)));
+        fileWatcher.start();
+    }
+
+    /** Stops hot-reloading the previously loaded workbook, if any. */
+    private void stopWatching() {
+        if (fileWatcher != null) {
+            fileWatcher.close();
+            fileWatcher = null;
+        }
+    }
+
+    /**
+     * Reports a hot reload, drops the traffic heatmap when any CRN changed and redraws the current
+     * route only when one of its CRNs was affected.
+     */
+    private void handleScheduleChanged(ExcelScheduleRepository source, ScheduleChangeEvent event) {
+        if (source != repository) {
+            return;
+        }
+        Set<String> affected = event.getAffectedCrns();
+        if (!affected.isEmpty()) {
+            scheduleGeneration++;
+            clearTrafficHeatmap();
+        }
+        if (visualizedCrns.stream().anyMatch(affected::contains)) {
+            renderVisualization(visualizedCrns, visualizedDay);
+        }
+        view.getSummaryArea().appendText(System.lineSeparator() + String.format(Locale.ROOT,
+                "Schedule reloaded: %d added, %d removed, %d changed CRNs",
+                event.getAddedCrns().size(), event.getRemovedCrns().size(), event.getChangedCrns().size()));
+    }
+
+    /** Streams .xlsx workbooks row by row; anything else is read fully into memory. */
+    private ExcelScheduleRepository.IngestionMode selectIngestionMode(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".xlsx")
+                ? ExcelScheduleRepository.IngestionMode.STREAMING
+                : ExcelScheduleRepository.IngestionMode.IN_MEMORY;
     }
 
     /** Builds the visualization after validating CRNs and selected day. */
     private void handleVisualize() {
+        if (loadTask != null) {
+            visualizePending = true;
+            view.getSummaryArea().appendText(System.lineSeparator() + "Visualization will run once loading finishes.");
+            return;
+        }
         if (scheduleService == null) {
             showMessage(Alert.AlertType.WARNING, "Missing Data", "Load the Excel file before visualizing.");
             return;
@@ -108,31 +302,145 @@ public class MainController {
         }
 
         DayOfWeek day = parseDay(view.getDaySelector().getValue());
-        List<CourseOffering> offerings = scheduleService.getOfferingsByCrns(crns);
-        List<String> missingCrns = findMissingCrns(crns, offerings);
+        List<String> missingCrns = renderVisualization(crns, day);
         if (!missingCrns.isEmpty()) {
             showMessage(Alert.AlertType.WARNING,
                     "Unknown CRNs",
                     "The following CRNs were not found: " + String.join(", ", missingCrns));
         }
+    }
 
-        DailyItinerary itinerary = scheduleService.getDailyItineraryFromOfferings(offerings, day);
-        if (itinerary.getEntries().isEmpty()) {
+    /**
+     * Plans the whole week for the CRNs in one pass and draws the given day, returning the CRNs
+     * that were not found; other days are then shown from the precomputed week.
+     */
+    private List<String> renderVisualization(List<String> crns, DayOfWeek day) {
+        visualizedCrns = List.copyOf(crns);
+        List<CourseOffering> offerings = scheduleService.getOfferingsByCrns(crns);
+        visualizedMissingCrns = findMissingCrns(crns, offerings);
+        visualizedWeek = routePlanningService.buildWeekVisualization(scheduleService.getWeeklyItineraries(offerings));
+        showVisualizedDay(day);
+        return visualizedMissingCrns;
+    }
+
+    /** Switches the map and summary to another day of the precomputed week without replanning. */
+    private void showVisualizedDay(DayOfWeek day) {
+        visualizedDay = day;
+        if (visualizedWeek == null) {
+            return;
+        }
+        RouteVisualizationModel model = visualizedWeek.getModel(day);
+        if (model == null) {
             view.getMapPane().clearVisualization();
             view.getSummaryArea().setText("No sessions found for " + day + " with the selected CRNs.");
             return;
         }
-
-        RouteVisualizationModel model = routePlanningService.buildVisualization(itinerary);
         view.getMapPane().setVisualizationModel(model);
 
-        String summaryText = String.join(System.lineSeparator(), model.getSummaryLines());
-        if (!missingCrns.isEmpty()) {
-            summaryText = "Missing CRNs: " + String.join(", ", missingCrns) + System.lineSeparator() + summaryText;
+        String summaryText = String.join(System.lineSeparator(), model.getSummaryLines())
+                + System.lineSeparator() + System.lineSeparator()
+                + String.join(System.lineSeparator(), visualizedWeek.getSummaryLines());
+        if (!visualizedMissingCrns.isEmpty()) {
+            summaryText = "Missing CRNs: " + String.join(", ", visualizedMissingCrns) + System.lineSeparator() + summaryText;
         }
         view.getSummaryArea().setText(summaryText);
     }
 
+    /** Reads an enrolment file and aggregates every student's class-change walks into a replayable heatmap. */
+    private void handleTrafficHeatmap() {
+        if (scheduleService == null || loadTask != null) {
+            showMessage(Alert.AlertType.WARNING, "Missing Data", "Load the Excel file before building the traffic heatmap.");
+            return;
+        }
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Select Enrolment File");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Enrolment Files", "*.csv", "*.tsv", "*.txt"));
+        Window window = view.getScene() != null ? view.getScene().getWindow() : null;
+        File selected = chooser.showOpenDialog(window);
+        if (selected == null) {
+            return;
+        }
+        Path path = selected.toPath();
+        ScheduleService service = scheduleService;
+        long generation = scheduleGeneration;
+        RoutePlanningService planner = routePlanningService;
+        Task<TrafficHeatmap> task = new Task<>() {
+            @Override
+            /** Streams the enrolments through the parallel aggregation off the FX thread. */
+            protected TrafficHeatmap call() {
+                try (Stream<StudentSchedule> students = EnrolmentReader.read(path)) {
+                    return service.buildTrafficHeatmap(students, planner, HEATMAP_BUCKET_MINUTES);
+                }
+            }
+        };
+        view.getHeatmapButton().setDisable(true);
+        view.getHeatmapTimeLabel().setText("Aggregating " + path.getFileName() + "...");
+        task.setOnSucceeded(event -> {
+            view.getHeatmapButton().setDisable(false);
+            if (scheduleGeneration != generation) {
+                return;
+            }
+            trafficHeatmap = task.getValue();
+            view.getHeatmapSlider().setMax(Math.max(0, trafficHeatmap.getBucketCount() - 1));
+            view.getHeatmapSlider().setValue(0);
+            view.getHeatmapSlider().setDisable(trafficHeatmap.getBucketCount() == 0);
+            view.getMapPane().setTrafficHeatmap(trafficHeatmap, parseDay(view.getDaySelector().getValue()), 0);
+            showHeatmapBucket();
+        });
+        task.setOnFailed(event -> {
+            view.getHeatmapButton().setDisable(false);
+            view.getHeatmapTimeLabel().setText("Traffic heatmap failed");
+            Throwable error = task.getException();
+            showMessage(Alert.AlertType.ERROR, "Heatmap Failed", "Unable to aggregate enrolments: "
+                    + (error == null ? "unknown error" : error.getMessage()));
+        });
+
+        Thread thread = new Thread(task, "traffic-heatmap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Replays the slider's bucket for the selected day from the precomputed heatmap. */
+    private void showHeatmapBucket() {
+        if (trafficHeatmap == null || trafficHeatmap.getBucketCount() == 0) {
+            return;
+        }
+        DayOfWeek day = parseDay(view.getDaySelector().getValue());
+        int bucket = (int) Math.round(view.getHeatmapSlider().getValue());
+        view.getMapPane().showHeatmapBucket(day, bucket);
+        LocalTime start = trafficHeatmap.getBucketStart(bucket);
+        view.getHeatmapTimeLabel().setText(String.format(Locale.ROOT, "%s %s-%s: %d transfers",
+                day.name().charAt(0) + day.name().substring(1).toLowerCase(Locale.ROOT),
+                start, start.plusMinutes(trafficHeatmap.getBucketMinutes()),
+                trafficHeatmap.getTotal(day, bucket)));
+    }
+
+    /** Drops the heatmap once the schedule it was computed from is replaced or hot-reloaded. */
+    private void clearTrafficHeatmap() {
+        trafficHeatmap = null;
+        view.getMapPane().clearTrafficHeatmap();
+        view.getHeatmapSlider().setDisable(true);
+        view.getHeatmapTimeLabel().setText("Load enrolments to see class-change traffic");
+    }
+
+    /** Reports the clicked building and its nearest neighbours under the summary. */
+    private void showSelectedBuilding(Building building) {
+        List<String> nearby = distanceCalculator.nearestBuildings(building.getLocation(), NEARBY_BUILDINGS + 1).stream()
+                .filter(other -> other != building)
+                .limit(NEARBY_BUILDINGS)
+                .map(other -> String.format(Locale.ROOT, "%s (%.0f m)", other.getCode(), distanceCalculator.calculate(building, other)))
+                .collect(Collectors.toList());
+        view.getSummaryArea().appendText(System.lineSeparator() + "Selected building: " + building.getCode()
+                + (building.getName().equals(building.getCode()) ? "" : " - " + building.getName())
+                + (nearby.isEmpty() ? "" : System.lineSeparator() + "Nearest: " + String.join(", ", nearby)));
+    }
+
+    /** Reports the clicked route leg under the summary. */
+    private void showSelectedSegment(RouteSegment segment) {
+        view.getSummaryArea().appendText(System.lineSeparator() + String.format(Locale.ROOT, "Selected leg: %s → %s, %.0f m",
+                segment.getFrom().getCode(), segment.getTo().getCode(), segment.getDistanceMeters()));
+    }
+
     /** Splits the CRN input into unique, trimmed tokens. */
     private List<String> parseCrns(String raw) {
         if (raw == null) {
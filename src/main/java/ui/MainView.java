@@ -5,6 +5,7 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
@@ -15,9 +16,14 @@ import javafx.scene.layout.VBox;
 public class MainView extends BorderPane {
 
     private final TextField crnField;
+    private final CrnAutoCompletion crnAutoCompletion;
     private final ComboBox<String> daySelector;
     private final Button loadButton;
+    private final Button cancelLoadButton;
     private final Button visualizeButton;
+    private final Button heatmapButton;
+    private final Slider heatmapSlider;
+    private final Label heatmapTimeLabel;
     private final TextArea summaryArea;
     private final MapCanvasPane mapPane;
 
@@ -30,13 +36,25 @@ public class MainView extends BorderPane {
 
         crnField = new TextField();
         crnField.setPromptText("Enter CRNs (comma separated)");
+        crnAutoCompletion = new CrnAutoCompletion(crnField);
 
         daySelector = new ComboBox<>();
         daySelector.getItems().addAll("Sunday", "Monday", "Tuesday", "Wednesday", "Thursday");
         daySelector.getSelectionModel().select("Monday");
 
         loadButton = new Button("Load Excel");
+        cancelLoadButton = new Button("Cancel Load");
+        cancelLoadButton.setDisable(true);
         visualizeButton = new Button("Visualize");
+        heatmapButton = new Button("Traffic Heatmap");
+
+        heatmapSlider = new Slider(0, 0, 0);
+        heatmapSlider.setBlockIncrement(1);
+        heatmapSlider.setMajorTickUnit(1);
+        heatmapSlider.setMinorTickCount(0);
+        heatmapSlider.setSnapToTicks(true);
+        heatmapSlider.setDisable(true);
+        heatmapTimeLabel = new Label("Load enrolments to see class-change traffic");
 
         summaryArea = new TextArea();
         summaryArea.setEditable(false);
@@ -46,11 +64,15 @@ public class MainView extends BorderPane {
         buttonRow.setHgap(10);
         buttonRow.add(loadButton, 0, 0);
         buttonRow.add(visualizeButton, 1, 0);
+        buttonRow.add(cancelLoadButton, 2, 0);
+        buttonRow.setVgap(10);
+        buttonRow.add(heatmapButton, 0, 1, 2, 1);
 
         VBox controlBox = new VBox(10,
                 new Label("CRNs"), crnField,
                 new Label("Weekday"), daySelector,
-                buttonRow
+                buttonRow,
+                new Label("Class Change Traffic"), heatmapSlider, heatmapTimeLabel
         );
         controlBox.setAlignment(Pos.TOP_LEFT);
         controlBox.setPadding(new Insets(0, 10, 0, 0));
@@ -72,6 +94,11 @@ public class MainView extends BorderPane {
         return crnField;
     }
 
+    /** Exposes the CRN field's autocomplete dropdown so the controller can plug in suggestions. */
+    public CrnAutoCompletion getCrnAutoCompletion() {
+        return crnAutoCompletion;
+    }
+
     /** Exposes the weekday selector combo box. */
     public ComboBox<String> getDaySelector() {
         return daySelector;
@@ -82,11 +109,31 @@ public class MainView extends BorderPane {
         return loadButton;
     }
 
+    /** Provides access to the "Cancel Load" button, enabled while a file is loading. */
+    public Button getCancelLoadButton() {
+        return cancelLoadButton;
+    }
+
     /** Provides access to the "Visualize" button. */
     public Button getVisualizeButton() {
         return visualizeButton;
     }
 
+    /** Provides access to the "Traffic Heatmap" button. */
+    public Button getHeatmapButton() {
+        return heatmapButton;
+    }
+
+    /** Exposes the slider that steps through the heatmap's time buckets. */
+    public Slider getHeatmapSlider() {
+        return heatmapSlider;
+    }
+
+    /** Returns the label describing the heatmap bucket on display. */
+    public Label getHeatmapTimeLabel() {
+        return heatmapTimeLabel;
+    }
+
     /** Returns the summary text area shown on the left. */
     public TextArea getSummaryArea() {
         return summaryArea;
@@ -5,10 +5,16 @@ import domain.CampusCoordinate;
 import domain.RoutePath;
 import domain.RouteSegment;
 import domain.RouteVisualizationModel;
+import domain.TrafficHeatmap;
+import domain.Transfer;
+import domain.TransferStatus;
+import infra.BuildingSpatialIndex;
 import javafx.geometry.Point2D;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import java.util.HashMap;
@@ -17,7 +23,11 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
+import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class MapCanvasPane extends Pane {
 
@@ -33,10 +43,31 @@ public class MapCanvasPane extends Pane {
     private static final double ROUTE_THICKNESS = 3.5;
     private static final double SEGMENT_OFFSET = 8.0;
     private static final double LABEL_OFFSET = 20.0;
+    private static final Color INFEASIBLE_HALO = Color.RED.deriveColor(0, 1, 1, 0.45);
+    private static final Color TIGHT_HALO = Color.ORANGE.deriveColor(0, 1, 1, 0.45);
+    private static final double HEAT_MIN_THICKNESS = 1.5;
+    private static final double HEAT_MAX_THICKNESS = 12.0;
+    private static final double HIT_RADIUS = 10.0;
+    private static final double TOOLTIP_OFFSET = 14.0;
+    private static final Color SELECTION_COLOR = Color.DEEPSKYBLUE;
 
     private final Canvas canvas;
     private Image backgroundImage;
     private RouteVisualizationModel visualizationModel;
+    private TrafficHeatmap trafficHeatmap;
+    private DayOfWeek heatmapDay;
+    private int heatmapBucket;
+    private final Tooltip hoverTooltip = new Tooltip();
+    private Object hoveredTarget;
+    private Supplier<BuildingSpatialIndex> spatialIndexSupplier;
+    private Consumer<Building> onBuildingSelected;
+    private Consumer<RouteSegment> onSegmentSelected;
+    private Building selectedBuilding;
+    private RouteSegment selectedSegment;
+    private double drawOriginX;
+    private double drawOriginY;
+    private double drawAreaWidth;
+    private double drawAreaHeight;
 
     /** Creates the canvas container and hooks size listeners for redraws. */
     public MapCanvasPane() {
@@ -45,6 +76,28 @@ public class MapCanvasPane extends Pane {
 
         widthProperty().addListener((obs, oldV, newV) -> redraw());
         heightProperty().addListener((obs, oldV, newV) -> redraw());
+
+        canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnMouseExited(event -> {
+            hoveredTarget = null;
+            hoverTooltip.hide();
+        });
+        canvas.setOnMouseClicked(this::handleMouseClicked);
+    }
+
+    /** Supplies the building index used for hit-testing; a supplier so registry rebuilds are picked up. */
+    public void setSpatialIndexSupplier(Supplier<BuildingSpatialIndex> spatialIndexSupplier) {
+        this.spatialIndexSupplier = spatialIndexSupplier;
+    }
+
+    /** Registers the callback invoked when a building is clicked. */
+    public void setOnBuildingSelected(Consumer<Building> onBuildingSelected) {
+        this.onBuildingSelected = onBuildingSelected;
+    }
+
+    /** Registers the callback invoked when a route segment is clicked. */
+    public void setOnSegmentSelected(Consumer<RouteSegment> onSegmentSelected) {
+        this.onSegmentSelected = onSegmentSelected;
     }
 
     /** Updates the map image and triggers a repaint. */
@@ -56,16 +109,41 @@ public class MapCanvasPane extends Pane {
     /** Supplies the visualization data to be rendered on the canvas. */
     public void setVisualizationModel(RouteVisualizationModel model) {
         this.visualizationModel = model;
+        this.selectedSegment = null;
+        this.hoveredTarget = null;
         redraw();
     }
 
     /** Clears any existing route rendering from the canvas. */
     public void clearVisualization() {
         this.visualizationModel = null;
+        this.selectedSegment = null;
+        this.hoveredTarget = null;
         redraw();
     }
 
-    /** Draws the map background, route segments, and start/end labels. */
+    /** Supplies a precomputed traffic heatmap and shows the given day and bucket under the route. */
+    public void setTrafficHeatmap(TrafficHeatmap heatmap, DayOfWeek day, int bucket) {
+        this.trafficHeatmap = heatmap;
+        this.heatmapDay = day;
+        this.heatmapBucket = bucket;
+        redraw();
+    }
+
+    /** Replays another bucket of the current heatmap; only the overlay is redrawn from stored counts. */
+    public void showHeatmapBucket(DayOfWeek day, int bucket) {
+        this.heatmapDay = day;
+        this.heatmapBucket = bucket;
+        redraw();
+    }
+
+    /** Removes the traffic overlay. */
+    public void clearTrafficHeatmap() {
+        this.trafficHeatmap = null;
+        redraw();
+    }
+
+    /** Draws the map background, traffic overlay, route segments, and start/end labels. */
     private void redraw() {
         double width = getWidth();
         double height = getHeight();
@@ -95,6 +173,13 @@ public class MapCanvasPane extends Pane {
 
             gc.drawImage(backgroundImage, drawOffsetX, drawOffsetY, drawWidth, drawHeight);
         }
+        drawOriginX = drawOffsetX;
+        drawOriginY = drawOffsetY;
+        drawAreaWidth = drawWidth;
+        drawAreaHeight = drawHeight;
+
+        drawHeatmap(gc, drawOffsetX, drawOffsetY, drawWidth, drawHeight);
+        drawSelection(gc, drawOffsetX, drawOffsetY, drawWidth, drawHeight);
 
         if (visualizationModel == null) {
             return;
@@ -106,6 +191,7 @@ public class MapCanvasPane extends Pane {
         }
 
         List<RouteSegment> segments = routePath.getSegments();
+        List<Transfer> transfers = visualizationModel.getTransfers();
         gc.setLineWidth(ROUTE_THICKNESS);
 
         Map<String, Integer> totalByEdge = new HashMap<>();
@@ -131,23 +217,51 @@ public class MapCanvasPane extends Pane {
             Point2D baseEnd = canonical ? end : start;
             Point2D offsetVector = computePerpendicular(baseStart, baseEnd).multiply(offsetAmount);
 
-            Point2D shiftedStart = start.add(offsetVector);
-            Point2D shiftedEnd = end.add(offsetVector);
+            List<CampusCoordinate> path = segment.getPath();
+            double[] xs = new double[path.size()];
+            double[] ys = new double[path.size()];
+            for (int p = 0; p < path.size(); p++) {
+                Point2D point = toCanvasPoint(path.get(p), drawOffsetX, drawOffsetY, drawWidth, drawHeight).add(offsetVector);
+                xs[p] = point.getX();
+                ys[p] = point.getY();
+            }
+            Point2D shiftedStart = new Point2D(xs[0], ys[0]);
+            Point2D shiftedEnd = new Point2D(xs[xs.length - 1], ys[ys.length - 1]);
+            Point2D beforeEnd = new Point2D(xs[xs.length - 2], ys[ys.length - 2]);
+
+            Transfer transfer = i < transfers.size() ? transfers.get(i) : null;
+            boolean flagged = transfer != null && transfer.isFlagged();
+            if (flagged) {
+                gc.setStroke(transfer.getStatus() == TransferStatus.INFEASIBLE ? INFEASIBLE_HALO : TIGHT_HALO);
+                gc.setLineWidth(ROUTE_THICKNESS * 3);
+                gc.strokePolyline(xs, ys, xs.length);
+                gc.setLineWidth(ROUTE_THICKNESS);
+            }
 
             Color color = ROUTE_COLORS[i % ROUTE_COLORS.length];
             gc.setStroke(color);
-            gc.strokeLine(shiftedStart.getX(), shiftedStart.getY(), shiftedEnd.getX(), shiftedEnd.getY());
+            gc.strokePolyline(xs, ys, xs.length);
             if (i > 0) {
                 drawArrowTail(gc, shiftedStart, color);
             }
-            drawArrowHead(gc, shiftedStart, shiftedEnd, color);
+            drawArrowHead(gc, beforeEnd, shiftedEnd, color);
+
+            if (flagged) {
+                int middle = xs.length / 2;
+                Point2D labelPoint = xs.length % 2 == 0
+                        ? new Point2D((xs[middle - 1] + xs[middle]) / 2.0, (ys[middle - 1] + ys[middle]) / 2.0)
+                        : new Point2D(xs[middle], ys[middle]);
+                String text = String.format("%d min walk / %d min break", transfer.getWalkMinutes(), transfer.getGapMinutes());
+                Color background = transfer.getStatus() == TransferStatus.INFEASIBLE ? Color.MISTYROSE : Color.LIGHTYELLOW;
+                drawLabel(gc, text, labelPoint, background, Color.BLACK);
+            }
         }
 
         List<Building> orderedBuildings = routePath.getOrderedBuildings();
         if (!orderedBuildings.isEmpty()) {
             Point2D startPoint = toCanvasPoint(orderedBuildings.get(0).getLocation(), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
             if (!segments.isEmpty()) {
-                Point2D nextPoint = toCanvasPoint(segments.get(0).getTo().getLocation(), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
+                Point2D nextPoint = toCanvasPoint(segments.get(0).getPath().get(1), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
                 Point2D dir = computeDirection(nextPoint, startPoint).multiply(LABEL_OFFSET);
                 startPoint = startPoint.add(dir);
             } else {
@@ -159,7 +273,8 @@ public class MapCanvasPane extends Pane {
             Point2D endPoint = toCanvasPoint(orderedBuildings.get(orderedBuildings.size() - 1).getLocation(), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
             if (!segments.isEmpty()) {
                 RouteSegment lastSegment = segments.get(segments.size() - 1);
-                Point2D prevPoint = toCanvasPoint(lastSegment.getFrom().getLocation(), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
+                List<CampusCoordinate> lastPath = lastSegment.getPath();
+                Point2D prevPoint = toCanvasPoint(lastPath.get(lastPath.size() - 2), drawOffsetX, drawOffsetY, drawWidth, drawHeight);
                 Point2D dir = computeDirection(prevPoint, endPoint).multiply(LABEL_OFFSET);
                 endPoint = endPoint.add(dir);
             } else {
@@ -173,6 +288,172 @@ public class MapCanvasPane extends Pane {
         }
     }
 
+    /** Strokes every leg with traffic in the current bucket, thicker and redder as more students walk it. */
+    private void drawHeatmap(GraphicsContext gc, double offsetX, double offsetY, double drawWidth, double drawHeight) {
+        if (trafficHeatmap == null || heatmapDay == null || trafficHeatmap.getMaxCount() == 0
+                || heatmapBucket < 0 || heatmapBucket >= trafficHeatmap.getBucketCount()) {
+            return;
+        }
+        List<RouteSegment> edges = trafficHeatmap.getEdges();
+        double max = trafficHeatmap.getMaxCount();
+        for (int edge = 0; edge < edges.size(); edge++) {
+            int count = trafficHeatmap.getCount(heatmapDay, heatmapBucket, edge);
+            if (count == 0) {
+                continue;
+            }
+            double heat = count / max;
+            double[][] points = toCanvasPolyline(edges.get(edge).getPath(), offsetX, offsetY, drawWidth, drawHeight);
+            gc.setStroke(Color.hsb(60 * (1 - heat), 1.0, 1.0, 0.35 + 0.5 * heat));
+            gc.setLineWidth(HEAT_MIN_THICKNESS + (HEAT_MAX_THICKNESS - HEAT_MIN_THICKNESS) * heat);
+            gc.strokePolyline(points[0], points[1], points[0].length);
+        }
+    }
+
+    /** Outlines the selected leg and rings the selected building beneath the route. */
+    private void drawSelection(GraphicsContext gc, double offsetX, double offsetY, double drawWidth, double drawHeight) {
+        if (selectedSegment != null) {
+            double[][] points = toCanvasPolyline(selectedSegment.getPath(), offsetX, offsetY, drawWidth, drawHeight);
+            gc.setStroke(SELECTION_COLOR.deriveColor(0, 1, 1, 0.6));
+            gc.setLineWidth(ROUTE_THICKNESS * 4);
+            gc.strokePolyline(points[0], points[1], points[0].length);
+        }
+        if (selectedBuilding != null) {
+            Point2D center = toCanvasPoint(selectedBuilding.getLocation(), offsetX, offsetY, drawWidth, drawHeight);
+            gc.setStroke(SELECTION_COLOR);
+            gc.setLineWidth(3);
+            gc.strokeOval(center.getX() - HIT_RADIUS, center.getY() - HIT_RADIUS, HIT_RADIUS * 2, HIT_RADIUS * 2);
+        }
+        gc.setLineWidth(ROUTE_THICKNESS);
+    }
+
+    /**
+     * Shows a tooltip for the building or leg under the pointer; runs on every mouse move, so it only
+     * does indexed lookups and touches the tooltip only when the building or leg under the pointer changes.
+     */
+    private void handleMouseMoved(MouseEvent event) {
+        Building building = hitBuilding(event.getX(), event.getY());
+        RouteSegment segment = building == null ? hitSegment(event.getX(), event.getY()) : null;
+        Object target = building != null ? building : segment;
+        if (target == hoveredTarget) {
+            return;
+        }
+        hoveredTarget = target;
+        if (target == null) {
+            hoverTooltip.hide();
+            return;
+        }
+        hoverTooltip.setText(building != null ? describe(building) : describe(segment));
+        hoverTooltip.show(canvas, event.getScreenX() + TOOLTIP_OFFSET, event.getScreenY() + TOOLTIP_OFFSET);
+    }
+
+    /** Selects the building or leg under the pointer, or clears the selection when clicking empty map. */
+    private void handleMouseClicked(MouseEvent event) {
+        Building building = hitBuilding(event.getX(), event.getY());
+        RouteSegment segment = building == null ? hitSegment(event.getX(), event.getY()) : null;
+        selectedBuilding = building;
+        selectedSegment = segment;
+        redraw();
+        if (building != null && onBuildingSelected != null) {
+            onBuildingSelected.accept(building);
+        } else if (segment != null && onSegmentSelected != null) {
+            onSegmentSelected.accept(segment);
+        }
+    }
+
+    /** Builds the tooltip text for a building. */
+    private static String describe(Building building) {
+        return building.getCode().equals(building.getName())
+                ? building.getCode()
+                : building.getCode() + " - " + building.getName();
+    }
+
+    /** Builds the tooltip text for a route leg, adding walk and break minutes when it is a transfer. */
+    private String describe(RouteSegment segment) {
+        String text = String.format(Locale.ROOT, "%s → %s: %.0f m",
+                segment.getFrom().getCode(), segment.getTo().getCode(), segment.getDistanceMeters());
+        Transfer transfer = transferFor(segment);
+        if (transfer != null) {
+            text += String.format(Locale.ROOT, "%nWalk %d min, break %d min", transfer.getWalkMinutes(), transfer.getGapMinutes());
+        }
+        return text;
+    }
+
+    /** Finds the building drawn closest to the canvas position within the hit radius, using the spatial index. */
+    private Building hitBuilding(double x, double y) {
+        BuildingSpatialIndex index = spatialIndexSupplier == null ? null : spatialIndexSupplier.get();
+        if (index == null || drawAreaWidth <= 0 || drawAreaHeight <= 0) {
+            return null;
+        }
+        double normalizedX = (x - drawOriginX) / drawAreaWidth;
+        double normalizedY = (y - drawOriginY) / drawAreaHeight;
+        double radius = HIT_RADIUS / Math.min(drawAreaWidth, drawAreaHeight);
+        Building best = null;
+        double bestDistance = HIT_RADIUS;
+        for (Building candidate : index.within(normalizedX, normalizedY, radius)) {
+            Point2D point = toCanvasPoint(candidate.getLocation(), drawOriginX, drawOriginY, drawAreaWidth, drawAreaHeight);
+            double distance = point.distance(x, y);
+            if (distance <= bestDistance) {
+                best = candidate;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /** Finds the route leg passing within the hit radius of the canvas position. */
+    private RouteSegment hitSegment(double x, double y) {
+        if (visualizationModel == null || drawAreaWidth <= 0 || drawAreaHeight <= 0) {
+            return null;
+        }
+        RouteSegment best = null;
+        double bestDistance = HIT_RADIUS;
+        for (RouteSegment segment : visualizationModel.getRoutePath().getSegments()) {
+            double[][] points = toCanvasPolyline(segment.getPath(), drawOriginX, drawOriginY, drawAreaWidth, drawAreaHeight);
+            for (int p = 1; p < points[0].length; p++) {
+                double distance = distanceToLine(x, y, points[0][p - 1], points[1][p - 1], points[0][p], points[1][p]);
+                if (distance <= bestDistance) {
+                    best = segment;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Returns the transfer annotating the segment in the current model, if any. */
+    private Transfer transferFor(RouteSegment segment) {
+        if (visualizationModel == null) {
+            return null;
+        }
+        for (Transfer transfer : visualizationModel.getTransfers()) {
+            if (transfer.getSegment() == segment) {
+                return transfer;
+            }
+        }
+        return null;
+    }
+
+    /** Converts a normalized polyline into canvas x and y arrays. */
+    private double[][] toCanvasPolyline(List<CampusCoordinate> path, double offsetX, double offsetY, double drawWidth, double drawHeight) {
+        double[] xs = new double[path.size()];
+        double[] ys = new double[path.size()];
+        for (int p = 0; p < path.size(); p++) {
+            Point2D point = toCanvasPoint(path.get(p), offsetX, offsetY, drawWidth, drawHeight);
+            xs[p] = point.getX();
+            ys[p] = point.getY();
+        }
+        return new double[][]{xs, ys};
+    }
+
+    /** Returns the distance from a point to the line segment between two points. */
+    private static double distanceToLine(double x, double y, double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared < 1e-12 ? 0.0 : Math.max(0.0, Math.min(1.0, ((x - x1) * dx + (y - y1) * dy) / lengthSquared));
+        return Math.hypot(x - (x1 + t * dx), y - (y1 + t * dy));
+    }
+
     /** Produces a canonical key for a pair of buildings so offsets align. */
     private String normalizedEdgeKey(RouteSegment segment) {
         String a = segment.getFrom().getCode().toLowerCase();
@@ -0,0 +1,51 @@
+package ui;
+
+import javafx.concurrent.Task;
+import service.LoadProgress;
+import service.ScheduleRepository;
+import service.ScheduleService;
+
+import java.util.Locale;
+
+public class ScheduleLoadTask extends Task<ScheduleService> {
+    private final ScheduleRepository repository;
+    private final LoadProgress progress;
+
+    /** Prepares a background load of the repository that publishes row counts as task messages. */
+    public ScheduleLoadTask(ScheduleRepository repository) {
+        if (repository == null) {
+            throw new IllegalArgumentException("Repository is required");
+        }
+        this.repository = repository;
+        this.progress = new LoadProgress(this::report);
+    }
+
+    @Override
+    /**
+     * Loads the term schedule off the FX thread, builds its autocomplete index so the first
+     * keystroke does not, and wraps the repository in a ready service.
+     */
+    protected ScheduleService call() {
+        repository.getTermSchedule(progress).getPrefixIndex();
+        report(progress);
+        return new ScheduleService(repository);
+    }
+
+    @Override
+    /** Stops the loader at the next row in addition to the usual task cancellation. */
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        progress.cancel();
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    /** Returns the live progress of the load. */
+    public LoadProgress getProgress() {
+        return progress;
+    }
+
+    /** Formats the rows processed and throughput; updateMessage coalesces calls onto the FX thread. */
+    private void report(LoadProgress current) {
+        updateMessage(String.format(Locale.ROOT, "Rows processed: %,d (%,.0f rows/s)",
+                current.getRowsProcessed(), current.getRowsPerSecond()));
+    }
+}